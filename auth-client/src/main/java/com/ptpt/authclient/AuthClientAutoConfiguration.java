@@ -0,0 +1,68 @@
+package com.ptpt.authclient;
+
+import io.jsonwebtoken.Jwts;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * auth-client 자동 설정
+ * - auth-client.jwks-uri 또는 auth-client.secret 이 있을 때만 동작하며, 서비스는 SecurityFilterChain 에 AuthTokenFilter 를 추가하기만 하면 된다.
+ */
+@AutoConfiguration
+@ConditionalOnClass(Jwts.class)
+@ConditionalOnExpression("!'${auth-client.jwks-uri:}'.isEmpty() or !'${auth-client.secret:}'.isEmpty()")
+@EnableConfigurationProperties(AuthClientProperties.class)
+public class AuthClientAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AuthTokenVerifier authTokenVerifier(AuthClientProperties properties) {
+        if (properties.jwksUri() == null) {
+            return new AuthTokenVerifier(properties.secret(), properties.minTokenVersion(), properties.clockSkew());
+        }
+
+        JwksKeyLocator keyLocator = new JwksKeyLocator(
+                JwksKeyLocator.JwksSource.http(properties.jwksUri(), properties.jwksTimeout()),
+                properties.jwksMinRefreshInterval(),
+                properties.secret());
+        return new AuthTokenVerifier(keyLocator, properties.minTokenVersion(), properties.clockSkew());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(SecurityFilterChain.class)
+    static class ServletConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuthTokenFilter authTokenFilter(AuthTokenVerifier authTokenVerifier, AuthClientProperties properties) {
+            return new AuthTokenFilter(authTokenVerifier, properties.authorities().stream()
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                    .toList());
+        }
+
+        // Security 필터 체인 안에서만 실행되도록 서블릿 컨테이너 자동 등록은 끈다 (이중 실행 방지)
+        @Bean
+        public FilterRegistrationBean<AuthTokenFilter> authTokenFilterRegistration(AuthTokenFilter authTokenFilter) {
+            FilterRegistrationBean<AuthTokenFilter> registration = new FilterRegistrationBean<>(authTokenFilter);
+            registration.setEnabled(false);
+            return registration;
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public AuthTokenEntryPoint authTokenEntryPoint() {
+            return new AuthTokenEntryPoint();
+        }
+    }
+}
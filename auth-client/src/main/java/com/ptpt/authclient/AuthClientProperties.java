@@ -0,0 +1,36 @@
+package com.ptpt.authclient;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * auth-client 설정 (auth-client.*)
+ *
+ * @param jwksUri                 auth-service 의 /.well-known/jwks.json 주소
+ * @param jwksMinRefreshInterval  모르는 kid 가 들어왔을 때 JWKS 를 다시 받는 최소 간격
+ * @param jwksTimeout             JWKS 조회 타임아웃
+ * @param secret                  auth-service 의 jwt.secret 과 같은 HMAC 키 (kid 없는 기존 토큰 검증용)
+ * @param minTokenVersion         허용할 최소 클레임 구성 버전 (auth-service 의 jwt.token-version 이하로 맞춘다)
+ * @param clockSkew               서버 간 시계 오차 허용 범위
+ * @param authorities             인증된 요청에 부여할 권한
+ */
+@ConfigurationProperties(prefix = "auth-client")
+public record AuthClientProperties(URI jwksUri,
+                                   @DefaultValue("30s") Duration jwksMinRefreshInterval,
+                                   @DefaultValue("2s") Duration jwksTimeout,
+                                   String secret,
+                                   @DefaultValue("1") int minTokenVersion,
+                                   @DefaultValue("30s") Duration clockSkew,
+                                   @DefaultValue("ROLE_USER") List<String> authorities) {
+
+    public AuthClientProperties {
+        // ${AUTH_JWT_SECRET} 처럼 기본값 없는 placeholder 는 바인딩 시 그대로 남으므로, 키로 쓰기 전에 기동을 멈춘다
+        if (secret != null && secret.startsWith("${")) {
+            throw new IllegalArgumentException("auth-client.secret 이 설정되지 않았습니다: " + secret);
+        }
+    }
+}
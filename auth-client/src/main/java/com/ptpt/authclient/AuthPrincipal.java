@@ -0,0 +1,29 @@
+package com.ptpt.authclient;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Access Token 으로 인증된 사용자
+ * - 토큰 클레임만으로 구성하며, auth-service 를 다시 호출하지 않는다.
+ * - 컨트롤러에서는 @AuthenticationPrincipal AuthPrincipal principal 로 받는다.
+ *
+ * @param userId       userId 클레임
+ * @param email        sub 클레임
+ * @param nickname     nickname 클레임
+ * @param tokenVersion ver 클레임 (클레임 구성 버전)
+ * @param tokenId      jti 클레임
+ * @param expiresAt    exp 클레임
+ */
+public record AuthPrincipal(Long userId,
+                            String email,
+                            String nickname,
+                            int tokenVersion,
+                            String tokenId,
+                            Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
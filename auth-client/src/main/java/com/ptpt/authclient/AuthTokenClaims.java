@@ -0,0 +1,20 @@
+package com.ptpt.authclient;
+
+/**
+ * auth-service 가 발급하는 Access Token 의 클레임 이름
+ * - 발급하는 쪽(auth-service JwtUtil)과 검증하는 쪽(다운스트림 서비스)이 같은 상수를 사용하여 계약이 어긋나지 않게 한다.
+ * - sub 클레임에는 사용자 이메일이 담긴다.
+ */
+public final class AuthTokenClaims {
+
+    public static final String TOKEN_TYPE = "tokenType";
+    public static final String TOKEN_VERSION = "ver";
+    public static final String USER_ID = "userId";
+    public static final String NICKNAME = "nickname";
+
+    /** tokenType 클레임 중 Access Token 을 나타내는 값 */
+    public static final String ACCESS_TOKEN_TYPE = "ACCESS";
+
+    private AuthTokenClaims() {
+    }
+}
@@ -0,0 +1,32 @@
+package com.ptpt.authclient;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증되지 않은 요청에 401 응답
+ * - AuthTokenFilter 가 남긴 실패 사유가 있으면 WWW-Authenticate 헤더와 본문에 담는다 (RFC 6750).
+ */
+public class AuthTokenEntryPoint implements AuthenticationEntryPoint {
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        Object reason = request.getAttribute(AuthTokenFilter.AUTH_ERROR_ATTRIBUTE);
+
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE,
+                reason != null ? "Bearer error=\"invalid_token\"" : "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"unauthorized\",\"reason\":"
+                + (reason != null ? "\"" + reason + "\"" : "null") + "}");
+    }
+}
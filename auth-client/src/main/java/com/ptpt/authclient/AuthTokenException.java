@@ -0,0 +1,42 @@
+package com.ptpt.authclient;
+
+import lombok.Getter;
+
+/**
+ * Access Token 검증 실패
+ */
+@Getter
+public class AuthTokenException extends RuntimeException {
+
+    public enum Reason {
+        /** 만료된 토큰 */
+        EXPIRED,
+        /** 서명이 맞지 않는 토큰 */
+        INVALID_SIGNATURE,
+        /** 서명 키(kid)를 찾을 수 없는 토큰 */
+        UNKNOWN_KEY,
+        /** 형식이 잘못되었거나 지원하지 않는 토큰 */
+        MALFORMED,
+        /** Access Token 이 아닌 토큰 (Refresh / Temp Token) */
+        INVALID_TYPE,
+        /** 필수 클레임이 없거나 클레임 구성 버전이 낮은 토큰 */
+        INVALID_CLAIMS
+    }
+
+    private final Reason reason;
+
+    public AuthTokenException(Reason reason) {
+        super(reason.name());
+        this.reason = reason;
+    }
+
+    public AuthTokenException(Reason reason, String customMessage) {
+        super(customMessage);
+        this.reason = reason;
+    }
+
+    public AuthTokenException(Reason reason, Throwable cause) {
+        super(reason.name(), cause);
+        this.reason = reason;
+    }
+}
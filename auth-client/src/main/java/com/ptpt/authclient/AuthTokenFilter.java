@@ -0,0 +1,57 @@
+package com.ptpt.authclient;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization 헤더의 Access Token 을 검증하여 SecurityContext 에 AuthPrincipal 을 설정
+ * - 토큰이 없거나 검증에 실패하면 인증 없이 다음 필터로 넘기고, 401 응답은 AuthTokenEntryPoint 가 만든다.
+ * - 실패 사유는 요청 속성(AUTH_ERROR_ATTRIBUTE)에 남긴다.
+ */
+@Slf4j
+public class AuthTokenFilter extends OncePerRequestFilter {
+
+    public static final String AUTH_ERROR_ATTRIBUTE = AuthTokenFilter.class.getName() + ".ERROR";
+
+    private final AuthTokenVerifier authTokenVerifier;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthTokenFilter(AuthTokenVerifier authTokenVerifier, List<GrantedAuthority> authorities) {
+        this.authTokenVerifier = authTokenVerifier;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = AuthTokenVerifier.resolveBearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+
+        if (token != null) {
+            try {
+                AuthPrincipal principal = authTokenVerifier.verify(token);
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities));
+                SecurityContextHolder.setContext(context);
+            } catch (AuthTokenException e) {
+                log.debug("Access Token 검증 실패 - uri: {}, reason: {}", request.getRequestURI(), e.getReason());
+                SecurityContextHolder.clearContext();
+                request.setAttribute(AUTH_ERROR_ATTRIBUTE, e.getReason());
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ptpt.authclient;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+
+/**
+ * auth-service 가 발급한 Access Token 을 로컬에서 검증
+ * - JwtParser 는 생성 시 한 번만 만들고 이후에는 읽기만 하므로 여러 요청 스레드에서 동시에 사용해도 안전하다.
+ * - 서명, 만료, tokenType, 클레임 구성 버전까지 확인하고 AuthPrincipal 로 변환한다.
+ * - 검증 키는 JWKS 공개키(JwksKeyLocator) 또는 jwt.secret 으로 찾는다.
+ */
+public class AuthTokenVerifier {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtParser jwtParser;
+    private final int minTokenVersion;
+
+    /**
+     * @param keyLocator      헤더(kid)로 검증 키를 찾는 Locator (JwksKeyLocator)
+     * @param minTokenVersion 허용할 최소 클레임 구성 버전 (ver 클레임)
+     * @param clockSkew       서버 간 시계 오차 허용 범위
+     */
+    public AuthTokenVerifier(Locator<Key> keyLocator, int minTokenVersion, Duration clockSkew) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+        this.minTokenVersion = minTokenVersion;
+    }
+
+    /**
+     * jwt.secret(HS256) 하나로만 검증
+     *
+     * @param secret auth-service 의 jwt.secret 과 같은 HMAC 키
+     */
+    public AuthTokenVerifier(String secret, int minTokenVersion, Duration clockSkew) {
+        this(secretKeyLocator(secret), minTokenVersion, clockSkew);
+    }
+
+    /**
+     * Access Token 검증 후 인증 주체 반환
+     *
+     * @throws AuthTokenException 검증에 실패한 경우
+     */
+    public AuthPrincipal verify(String token) {
+        Claims claims = parse(token);
+
+        if (!AuthTokenClaims.ACCESS_TOKEN_TYPE.equals(claims.get(AuthTokenClaims.TOKEN_TYPE))) {
+            throw new AuthTokenException(AuthTokenException.Reason.INVALID_TYPE, "Access Token 이 아닙니다.");
+        }
+
+        Object userId = claims.get(AuthTokenClaims.USER_ID);
+        Object version = claims.get(AuthTokenClaims.TOKEN_VERSION);
+        String nickname = claims.get(AuthTokenClaims.NICKNAME, String.class);
+
+        if (!(userId instanceof Number) || !(version instanceof Number) || nickname == null || claims.getSubject() == null) {
+            throw new AuthTokenException(AuthTokenException.Reason.INVALID_CLAIMS, "필수 클레임이 없는 토큰입니다.");
+        }
+        if (((Number) version).intValue() < minTokenVersion) {
+            throw new AuthTokenException(AuthTokenException.Reason.INVALID_CLAIMS, "지원하지 않는 토큰 버전입니다: " + version);
+        }
+
+        return new AuthPrincipal(
+                ((Number) userId).longValue(),
+                claims.getSubject(),
+                nickname,
+                ((Number) version).intValue(),
+                claims.getId(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출 (없으면 null)
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        String token = authorizationHeader.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    private static Locator<Key> secretKeyLocator(String secret) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return header -> secretKey;
+    }
+
+    private Claims parse(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new AuthTokenException(AuthTokenException.Reason.EXPIRED, e);
+        } catch (SignatureException e) {
+            throw new AuthTokenException(AuthTokenException.Reason.INVALID_SIGNATURE, e);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthTokenException(AuthTokenException.Reason.MALFORMED, e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ptpt.authclient;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * auth-service 의 /.well-known/jwks.json 공개키로 검증 키를 찾는 Locator
+ * - 공개키는 한 번 받아두고 로컬에서 검증하며, 모르는 kid 가 들어왔을 때만 다시 받는다 (키 교체 대응).
+ * - 다시 받는 간격은 minRefreshInterval 이상으로 제한한다 (임의의 kid 로 auth-service 를 반복 호출하지 않도록).
+ * - 조회는 잠금 없이 처음 요청한 스레드 하나만 하고, 동시에 들어온 요청은 그 결과를 기다린다 (요청 스레드가 synchronized 에 줄 서거나 가상 스레드가 고정되지 않도록).
+ * - kid 가 없는 토큰(jwt.secret 으로 서명된 기존 토큰)은 secret 이 설정된 경우에만 검증한다.
+ */
+@Slf4j
+public class JwksKeyLocator implements Locator<Key> {
+
+    /**
+     * JWKS 문서 조회
+     */
+    @FunctionalInterface
+    public interface JwksSource {
+
+        String fetch() throws IOException, InterruptedException;
+
+        static JwksSource http(URI jwksUri, Duration timeout) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(timeout)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(jwksUri)
+                    .timeout(timeout)
+                    .GET()
+                    .build();
+
+            return () -> {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    throw new IOException("JWKS 응답 코드: " + response.statusCode());
+                }
+                return response.body();
+            };
+        }
+    }
+
+    private final JwksSource jwksSource;
+    private final long minRefreshIntervalNanos;
+    private final Key secretKey;
+
+    private final AtomicReference<CompletableFuture<Map<String, Key>>> inflight = new AtomicReference<>();
+
+    private volatile Map<String, Key> keys = Map.of();
+    private volatile long lastFetchNanos;
+    private volatile boolean fetched;
+
+    /**
+     * @param jwksSource         JWKS 문서 조회
+     * @param minRefreshInterval 다시 조회하는 최소 간격
+     * @param secret             kid 없는 기존 토큰 검증용 jwt.secret (없으면 null)
+     */
+    public JwksKeyLocator(JwksSource jwksSource, Duration minRefreshInterval, String secret) {
+        this.jwksSource = jwksSource;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.secretKey = secret != null && !secret.isBlank()
+                ? Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))
+                : null;
+    }
+
+    @Override
+    public Key locate(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+
+        if (kid == null) {
+            if (secretKey == null) {
+                throw new AuthTokenException(AuthTokenException.Reason.UNKNOWN_KEY, "kid 가 없는 토큰입니다.");
+            }
+            return secretKey;
+        }
+
+        Key key = keys.get(kid);
+        if (key == null) {
+            key = refresh().get(kid);
+        }
+        if (key == null) {
+            throw new AuthTokenException(AuthTokenException.Reason.UNKNOWN_KEY, "등록되지 않은 서명 키입니다. kid: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 공개키 재조회 (이미 조회 중이면 진행 중인 결과를 기다리고, 최근에 조회했다면 가지고 있는 키를 그대로 돌려준다)
+     */
+    private Map<String, Key> refresh() {
+        while (true) {
+            CompletableFuture<Map<String, Key>> pending = inflight.get();
+            if (pending != null) {
+                return await(pending);
+            }
+            if (fetched && System.nanoTime() - lastFetchNanos < minRefreshIntervalNanos) {
+                // 그 사이 다른 스레드가 조회를 시작했을 수 있으므로 한 번 더 확인한다
+                pending = inflight.get();
+                return pending != null ? await(pending) : keys;
+            }
+
+            CompletableFuture<Map<String, Key>> future = new CompletableFuture<>();
+            if (inflight.compareAndSet(null, future)) {
+                lastFetchNanos = System.nanoTime();
+                fetched = true;
+                try {
+                    fetch();
+                } finally {
+                    // keys 를 바꾼 뒤 inflight 를 비우므로, inflight 가 비어 있으면 keys 는 이미 최신이다
+                    inflight.compareAndSet(future, null);
+                    future.complete(keys);
+                }
+                return keys;
+            }
+        }
+    }
+
+    private Map<String, Key> await(CompletableFuture<Map<String, Key>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return keys;
+        } catch (ExecutionException e) {
+            return keys;
+        }
+    }
+
+    private void fetch() {
+        try {
+            JwkSet jwkSet = Jwks.setParser().build().parse(jwksSource.fetch());
+
+            Map<String, Key> fetchedKeys = new HashMap<>();
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                // 공개키만 받는다 (대칭키가 섞여 들어와 서명 위조에 쓰이지 않도록)
+                if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                    fetchedKeys.put(jwk.getId(), publicKey);
+                }
+            }
+            keys = Map.copyOf(fetchedKeys);
+            log.info("JWKS 갱신 - kids: {}", fetchedKeys.keySet());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 조회에 실패하면 가지고 있던 키로 계속 검증한다
+            log.warn("JWKS 조회 실패", e);
+        }
+    }
+}
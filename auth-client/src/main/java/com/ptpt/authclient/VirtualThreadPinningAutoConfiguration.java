@@ -0,0 +1,28 @@
+package com.ptpt.authclient;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 고정 감지 자동 설정
+ * - spring.threads.virtual.enabled=true 이고 virtual-threads.pinning.enabled 가 false 가 아닐 때만 동작한다.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ptpt.authclient;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감지
+ * - synchronized 블록이나 네이티브 호출 안에서 블로킹되어 캐리어 스레드를 붙잡은 경우를 JFR 이벤트(jdk.VirtualThreadPinned)로 받는다.
+ * - 같은 위치는 처음 한 번만 스택과 함께 경고하고, 이후에는 건수만 센다.
+ * - 서비스마다 따로 두지 않고 VirtualThreadPinningAutoConfiguration 으로 등록한다 (가상 스레드 모드 + virtual-threads.pinning.enabled).
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 12;
+
+    private final Duration threshold;
+    private final LongAdder pinnedCount = new LongAdder();
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 고정 감지 시작 - threshold: {}", threshold);
+    }
+
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String location = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(VirtualThreadPinningMonitor::format)
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+                .findFirst()
+                .orElse("unknown");
+
+        if (reportedFrames.add(location)) {
+            log.warn("가상 스레드 고정 감지 - location: {}, duration: {}ms, thread: {}\n{}",
+                    location, event.getDuration().toMillis(),
+                    event.getThread("eventThread") == null ? "unknown" : event.getThread("eventThread").getJavaName(),
+                    formatStack(event.getStackTrace()));
+        }
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "\tat " + format(frame))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ptpt.authclient;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthTokenVerifierTest {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    private final AuthTokenVerifier verifier = new AuthTokenVerifier(SECRET, 1, Duration.ZERO);
+
+    @Test
+    void verify_accessToken_returnsPrincipal() {
+        String token = token(SECRET, Map.of("tokenType", "ACCESS", "userId", 7, "nickname", "ptpt", "ver", 1), 60_000);
+
+        AuthPrincipal principal = verifier.verify(token);
+
+        assertThat(principal.userId()).isEqualTo(7L);
+        assertThat(principal.email()).isEqualTo("user@ptpt.com");
+        assertThat(principal.nickname()).isEqualTo("ptpt");
+        assertThat(principal.getName()).isEqualTo("user@ptpt.com");
+    }
+
+    @Test
+    void verify_refreshToken_isRejected() {
+        String token = token(SECRET, Map.of("tokenType", "REFRESH"), 60_000);
+
+        assertReason(token, AuthTokenException.Reason.INVALID_TYPE);
+    }
+
+    @Test
+    void verify_expiredToken_isRejected() {
+        String token = token(SECRET, Map.of("tokenType", "ACCESS", "userId", 7, "nickname", "ptpt", "ver", 1), -1_000);
+
+        assertReason(token, AuthTokenException.Reason.EXPIRED);
+    }
+
+    @Test
+    void verify_otherSecret_isRejected() {
+        String token = token(SECRET.replace('7', '8'), Map.of("tokenType", "ACCESS", "userId", 7, "nickname", "ptpt", "ver", 1), 60_000);
+
+        assertReason(token, AuthTokenException.Reason.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void verify_olderTokenVersion_isRejected() {
+        AuthTokenVerifier strictVerifier = new AuthTokenVerifier(SECRET, 2, Duration.ZERO);
+        String token = token(SECRET, Map.of("tokenType", "ACCESS", "userId", 7, "nickname", "ptpt", "ver", 1), 60_000);
+
+        assertThatThrownBy(() -> strictVerifier.verify(token))
+                .isInstanceOf(AuthTokenException.class)
+                .extracting("reason").isEqualTo(AuthTokenException.Reason.INVALID_CLAIMS);
+    }
+
+    @Test
+    void resolveBearerToken() {
+        assertThat(AuthTokenVerifier.resolveBearerToken("Bearer abc")).isEqualTo("abc");
+        assertThat(AuthTokenVerifier.resolveBearerToken("Basic abc")).isNull();
+        assertThat(AuthTokenVerifier.resolveBearerToken(null)).isNull();
+    }
+
+    private void assertReason(String token, AuthTokenException.Reason reason) {
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(AuthTokenException.class)
+                .extracting("reason").isEqualTo(reason);
+    }
+
+    private static String token(String secret, Map<String, Object> claims, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claims(claims)
+                .subject("user@ptpt.com")
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttlMillis))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ptpt.authclient;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwksKeyLocatorTest {
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private final String jwks = "{\"keys\":[" + Jwks.json(publicJwk("key-1")) + "]}";
+
+    @Test
+    void locate_concurrentUnknownKid_fetchesOnce() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        JwksKeyLocator locator = new JwksKeyLocator(() -> {
+            fetches.incrementAndGet();
+            release.await();
+            return jwks;
+        }, Duration.ofMinutes(1), null);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<String>> lookups = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                lookups.add(CompletableFuture.supplyAsync(() -> parse(locator, "key-1"), executor));
+            }
+            TimeUnit.MILLISECONDS.sleep(200);
+            release.countDown();
+
+            for (CompletableFuture<String> lookup : lookups) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS)).isEqualTo("user@ptpt.com");
+            }
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void locate_unknownKidWithinMinRefreshInterval_doesNotRefetch() {
+        AtomicInteger fetches = new AtomicInteger();
+        JwksKeyLocator locator = new JwksKeyLocator(() -> {
+            fetches.incrementAndGet();
+            return jwks;
+        }, Duration.ofMinutes(1), null);
+
+        assertThat(parse(locator, "key-1")).isEqualTo("user@ptpt.com");
+        for (int i = 0; i < 5; i++) {
+            String kid = "forged-" + i;
+            assertThatThrownBy(() -> parse(locator, kid))
+                    .isInstanceOf(AuthTokenException.class)
+                    .extracting("reason").isEqualTo(AuthTokenException.Reason.UNKNOWN_KEY);
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    private PublicJwk<?> publicJwk(String kid) {
+        return Jwks.builder().key(keyPair.getPublic()).idFromThumbprint().id(kid).build();
+    }
+
+    private String parse(JwksKeyLocator locator, String kid) {
+        String token = Jwts.builder()
+                .header().keyId(kid).and()
+                .subject("user@ptpt.com")
+                .signWith(keyPair.getPrivate())
+                .compact();
+        return Jwts.parser().keyLocator(locator).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+}
@@ -0,0 +1,31 @@
+package com.ptpt.authclient;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningAutoConfigurationTest {
+
+    // "20ms" 같은 Duration 표기는 Spring Boot 애플리케이션과 같은 변환 서비스로 읽는다
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(VirtualThreadPinningAutoConfiguration.class));
+
+    @Test
+    void virtualThreads_registersMonitor() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class));
+    }
+
+    @Test
+    void platformThreads_orDisabled_skipsMonitor() {
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true", "virtual-threads.pinning.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+    }
+}
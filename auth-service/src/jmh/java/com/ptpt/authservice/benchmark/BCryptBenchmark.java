@@ -0,0 +1,43 @@
+package com.ptpt.authservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost(strength) 별 encode / matches 소요 시간
+ * - cost 가 1 오를 때마다 약 2배가 되며, 로그인 한 번의 CPU 시간 대부분을 차지한다.
+ * - password.hashing.strength 를 바꾸기 전에 이 결과로 로그인 처리량을 가늠한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class BCryptBenchmark {
+
+    private static final String PASSWORD = "password123!";
+
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+}
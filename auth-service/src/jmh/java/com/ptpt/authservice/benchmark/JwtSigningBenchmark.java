@@ -0,0 +1,52 @@
+package com.ptpt.authservice.benchmark;
+
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.ptpt.authservice.util.JwtKeyRing;
+import com.ptpt.authservice.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 Access Token 발급(서명) / 검증 처리량 비교
+ * - HS256 : jwt.secret 공유 (검증하는 모든 서비스가 secret 을 알아야 한다)
+ * - RS256 / ES256 / EdDSA : 개인키로 서명, JWKS 공개키로 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    @Param({"HS256", "RS256", "ES256", "EdDSA"})
+    private JwtSigningAlgorithm algorithm;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(JwtKeyRing.of(algorithm, SECRET), 1_800_000L, 604_800_000L, 900_000L, 1);
+
+        user = User.builder()
+                .id(1L)
+                .email("bench@ptpt.com")
+                .nickname("bench")
+                .build();
+        accessToken = jwtUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public void verify(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.verify(accessToken).getSubject());
+    }
+}
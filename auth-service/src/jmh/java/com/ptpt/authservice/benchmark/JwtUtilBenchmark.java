@@ -0,0 +1,73 @@
+package com.ptpt.authservice.benchmark;
+
+import com.ptpt.authservice.dto.TempUserInfo;
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.ptpt.authservice.util.JwtKeyRing;
+import com.ptpt.authservice.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 공개 메서드별 처리 시간
+ * - 로그인 / 갱신 : generateAccessToken + generateRefreshToken
+ * - 인증 필터 / 갱신 : verify (서명 검증 1회)
+ * - 소셜 회원가입 완료 : extractTempUserInfo
+ *
+ * 기본 알고리즘(HS256)과 비대칭 알고리즘(ES256)을 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    @Param({"HS256", "ES256"})
+    private JwtSigningAlgorithm algorithm;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String accessToken;
+    private String tempToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(JwtKeyRing.of(algorithm, SECRET), 1_800_000L, 604_800_000L, 900_000L, 1);
+
+        user = User.builder()
+                .id(1L)
+                .email("bench@ptpt.com")
+                .nickname("bench")
+                .build();
+        accessToken = jwtUtil.generateAccessToken(user);
+        tempToken = jwtUtil.generateTempToken(TempUserInfo.builder()
+                .email("bench@ptpt.com")
+                .socialId("1234567890")
+                .socialType(User.SocialType.KAKAO)
+                .nickname("bench")
+                .profileImageUrl("https://ptpt.com/profile.png")
+                .build());
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public String verify() {
+        return jwtUtil.verify(accessToken).getSubject();
+    }
+
+    @Benchmark
+    public TempUserInfo extractTempUserInfo() {
+        return jwtUtil.extractTempUserInfo(tempToken);
+    }
+}
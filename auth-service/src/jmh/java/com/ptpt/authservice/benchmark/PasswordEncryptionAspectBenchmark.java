@@ -0,0 +1,144 @@
+package com.ptpt.authservice.benchmark;
+
+import com.ptpt.authservice.annotation.PasswordEncryption;
+import com.ptpt.authservice.aspect.PasswordFieldPlan;
+import com.ptpt.authservice.dto.User;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * PasswordEncryptionAspect 가 컨트롤러 호출마다 더하는 비용 비교
+ *
+ * - get*  : GET /api/users 처럼 인증 사용자(User)와 문자열만 받는 호출
+ *           기존 aspect 는 모든 컨트롤러 메서드에서 인자의 필드를 전부 훑었고,
+ *           현재 pointcut 은 @RequestBody 가 없는 메서드를 아예 감싸지 않으므로 getWithoutAspect 와 같다.
+ * - post* : @PasswordEncryption 필드가 있는 요청 본문을 받는 호출
+ *
+ * 실제 해싱 비용을 빼고 필드 탐색/접근 비용만 보기 위해 변환 함수는 문자열을 그대로 돌려준다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PasswordEncryptionAspectBenchmark {
+
+    private static final UnaryOperator<String> TRANSFORM = value -> value;
+
+    private User principal;
+    private UploadedFile profileImage;
+    private SignupBody signupBody;
+
+    @Setup
+    public void setUp() {
+        principal = User.builder()
+                .id(1L)
+                .email("bench@ptpt.com")
+                .nickname("bench")
+                .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .build();
+        profileImage = new UploadedFile("profileImage", "profile.png", new byte[16]);
+        signupBody = new SignupBody("bench@ptpt.com", "password123!", "bench");
+    }
+
+    @Benchmark
+    public Object getWithoutAspect() {
+        return handle(principal, "bench");
+    }
+
+    @Benchmark
+    public Object getWithLegacyAspect() {
+        legacyFieldEncryption(principal);
+        legacyFieldEncryption("bench");
+        return handle(principal, "bench");
+    }
+
+    @Benchmark
+    public Object postWithoutAspect() {
+        return handle(signupBody, profileImage);
+    }
+
+    @Benchmark
+    public Object postWithLegacyAspect() {
+        legacyFieldEncryption(signupBody);
+        legacyFieldEncryption(profileImage);
+        return handle(signupBody, profileImage);
+    }
+
+    @Benchmark
+    public Object postWithPlanAspect() {
+        // 현재 aspect 는 @RequestBody 인자만 처리
+        PasswordFieldPlan plan = PasswordFieldPlan.of(signupBody.getClass());
+        if (!plan.isEmpty()) {
+            plan.apply(signupBody, TRANSFORM);
+        }
+        return handle(signupBody, profileImage);
+    }
+
+    @Benchmark
+    public void planLookupForUnannotatedType(Blackhole blackhole) {
+        blackhole.consume(PasswordFieldPlan.of(profileImage.getClass()).isEmpty());
+    }
+
+    private static Object handle(Object first, Object second) {
+        return first.hashCode() ^ second.hashCode();
+    }
+
+    /**
+     * 기존 PasswordEncryptionAspect.fieldEncryption 과 같은 방식 (호출마다 FieldUtils 로 전체 필드 탐색)
+     */
+    private static void legacyFieldEncryption(Object object) {
+        FieldUtils.getAllFieldsList(object.getClass())
+                .stream()
+                .filter(field -> !(Modifier.isFinal(field.getModifiers()) && Modifier.isStatic(field.getModifiers())))
+                .forEach(field -> {
+                    try {
+                        if (!field.isAnnotationPresent(PasswordEncryption.class)) {
+                            return;
+                        }
+                        Object value = FieldUtils.readField(field, object, true);
+                        if (value instanceof String stringValue) {
+                            FieldUtils.writeField(field, object, TRANSFORM.apply(stringValue), true);
+                        }
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+
+    /**
+     * MultipartFile 처럼 @PasswordEncryption 필드가 없는 인자
+     */
+    public static class UploadedFile {
+        private final String name;
+        private final String originalFilename;
+        private final byte[] content;
+
+        public UploadedFile(String name, String originalFilename, byte[] content) {
+            this.name = name;
+            this.originalFilename = originalFilename;
+            this.content = content;
+        }
+    }
+
+    public static class SignupBody {
+        private final String email;
+        @PasswordEncryption
+        private String password;
+        private final String username;
+
+        public SignupBody(String email, String password, String username) {
+            this.email = email;
+            this.password = password;
+            this.username = username;
+        }
+
+        @Override
+        public int hashCode() {
+            return email.hashCode() ^ password.hashCode() ^ username.hashCode();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ptpt.authservice.benchmark;
+
+import com.ptpt.authclient.AuthTokenClaims;
+import com.ptpt.authservice.dto.TempUserInfo;
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.ptpt.authservice.enums.TokenType;
+import com.ptpt.authservice.exception.token.InvalidTokenException;
+import com.ptpt.authservice.util.JwtKeyRing;
+import com.ptpt.authservice.util.JwtUtil;
+import com.ptpt.authservice.util.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 토큰을 몇 번 파싱하는지에 따른 처리량 비교
+ *
+ * 요청당 파싱(HMAC 검증) 횟수
+ * - refresh   : 기존 validateToken + extractEmail = 2회 -> verify = 1회
+ * - temp 토큰 : 기존 validateToken + isTempToken + extractTempUserInfo(isTempToken, isTokenExpired, extractAllClaims) = 5회 -> verify = 1회
+ *
+ * 기존 방식(before)은 JwtUtil 에서 삭제했으므로, 같은 키로 만든 parser 로 호출 순서를 그대로 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenParseBenchmark {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    private JwtUtil jwtUtil;
+    private JwtParser legacyParser;
+    private String refreshToken;
+    private String tempToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(JwtKeyRing.of(JwtSigningAlgorithm.HS256, SECRET), 1_800_000L, 604_800_000L, 900_000L, 1);
+        // HS256 키 목록은 kid 없이 jwt.secret 으로 서명하므로 같은 키로 검증할 수 있다
+        legacyParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        User user = User.builder()
+                .id(1L)
+                .email("bench@ptpt.com")
+                .nickname("bench")
+                .build();
+        refreshToken = jwtUtil.generateRefreshToken(user);
+        tempToken = jwtUtil.generateTempToken(TempUserInfo.builder()
+                .email("bench@ptpt.com")
+                .socialId("1234567890")
+                .socialType(User.SocialType.KAKAO)
+                .nickname("bench")
+                .profileImageUrl("https://ptpt.com/profile.png")
+                .build());
+    }
+
+    @Benchmark
+    public void refreshBefore(Blackhole blackhole) {
+        // validateToken + extractEmail
+        parseClaims(refreshToken);
+        blackhole.consume(parseClaims(refreshToken).getSubject());
+    }
+
+    @Benchmark
+    public void refreshAfter(Blackhole blackhole) {
+        VerifiedToken verifiedToken = jwtUtil.verify(refreshToken);
+        blackhole.consume(verifiedToken.getSubject());
+    }
+
+    @Benchmark
+    public void tempTokenBefore(Blackhole blackhole) {
+        // validateToken + isTempToken
+        parseClaims(tempToken);
+        isTempToken(tempToken);
+        // 기존 extractTempUserInfo 내부 동작 (isTempToken + isTokenExpired + extractAllClaims)
+        isTempToken(tempToken);
+        blackhole.consume(parseClaims(tempToken).getExpiration().before(new Date()));
+        blackhole.consume(parseClaims(tempToken));
+    }
+
+    @Benchmark
+    public void tempTokenAfter(Blackhole blackhole) {
+        VerifiedToken verifiedToken = jwtUtil.verify(tempToken);
+        blackhole.consume(verifiedToken.toTempUserInfo());
+    }
+
+    // 기존 JwtUtil.extractAllClaims - 호출할 때마다 서명을 다시 검증한다
+    private Claims parseClaims(String token) {
+        try {
+            return legacyParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException e) {
+            throw new InvalidTokenException();
+        }
+    }
+
+    private boolean isTempToken(String token) {
+        return TokenType.TEMP.name().equals(parseClaims(token).get(AuthTokenClaims.TOKEN_TYPE));
+    }
+}
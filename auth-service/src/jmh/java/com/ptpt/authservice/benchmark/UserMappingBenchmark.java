@@ -0,0 +1,82 @@
+package com.ptpt.authservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.entity.user.UserEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 조회 / 응답 생성마다 거치는 변환 비용
+ * - toDomain / fromDomain / toEntity : UserEntity <-> User 매핑
+ * - interestedSportsList            : User.getInterestedSportsList (로딩 시 만든 목록을 그대로 반환)
+ * - interestedSportsLegacyJson      : 이전 방식 (JSON 컬럼 문자열을 호출마다 새 ObjectMapper 로 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMappingBenchmark {
+
+    private static final String LEGACY_SPORTS_JSON = "[\"축구\",\"농구\",\"테니스\",\"러닝\"]";
+
+    private UserEntity userEntity;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .id(1L)
+                .email("bench@ptpt.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                .nickname("bench")
+                .bio("안녕하세요")
+                .profileImage("/images/profiles/bench.png")
+                .phoneNumber("010-0000-0000")
+                .birthDate(LocalDate.of(1995, 1, 1))
+                .location("서울")
+                .interestedSports(List.of("축구", "농구", "테니스", "러닝"))
+                .socialId("1234567890")
+                .socialType(User.SocialType.KAKAO)
+                .userType(User.UserType.SOCIAL)
+                .enabled(true)
+                .emailVerified(true)
+                .agreeTerms(true)
+                .agreePrivacy(true)
+                .agreeMarketing(false)
+                .lastLoginAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        userEntity = UserEntity.fromDomain(user);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return userEntity.toDomain();
+    }
+
+    @Benchmark
+    public UserEntity fromDomain() {
+        return UserEntity.fromDomain(user);
+    }
+
+    @Benchmark
+    public UserEntity toEntity() {
+        return user.toEntity();
+    }
+
+    @Benchmark
+    public List<String> interestedSportsList() {
+        return user.getInterestedSportsList();
+    }
+
+    @Benchmark
+    public List<String> interestedSportsLegacyJson() throws Exception {
+        return new ObjectMapper().readValue(LEGACY_SPORTS_JSON, new TypeReference<List<String>>() {});
+    }
+}
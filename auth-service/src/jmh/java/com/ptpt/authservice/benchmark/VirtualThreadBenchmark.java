@@ -0,0 +1,95 @@
+package com.ptpt.authservice.benchmark;
+
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.ptpt.authservice.util.JwtKeyRing;
+import com.ptpt.authservice.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 풀(Tomcat 기본 200개) vs 가상 스레드의 처리량/메모리 비교
+ *
+ * 요청 하나 = 토큰 검증(CPU) + blockingMillis 동안 블로킹 I/O(DB, 소셜 API 대기)
+ * - 한 번의 벤치마크 호출이 concurrentRequests 개의 요청을 동시에 처리하고 모두 끝날 때까지 기다린다. (초당 요청 수 = 점수 x concurrentRequests)
+ * - 메모리는 ./gradlew jmh -Pjmh.profilers=gc 로 할당량을 보고, 최대 스레드 수와 힙/비힙 사용량은 종료 시 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class VirtualThreadBenchmark {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String threadMode;
+
+    @Param({"200", "1000"})
+    private int concurrentRequests;
+
+    @Param({"20"})
+    private long blockingMillis;
+
+    private ExecutorService executor;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(threadMode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+
+        jwtUtil = new JwtUtil(JwtKeyRing.of(JwtSigningAlgorithm.HS256, SECRET), 1_800_000L, 604_800_000L, 900_000L, 1);
+        accessToken = jwtUtil.generateAccessToken(User.builder()
+                .id(1L)
+                .email("bench@ptpt.com")
+                .nickname("bench")
+                .build());
+
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        System.out.printf("%n[%s, concurrent=%d] peak platform threads=%d, heap used=%dMB, non-heap used=%dMB%n",
+                threadMode, concurrentRequests, threadMXBean.getPeakThreadCount(),
+                memoryMXBean.getHeapMemoryUsage().getUsed() >> 20,
+                memoryMXBean.getNonHeapMemoryUsage().getUsed() >> 20);
+
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void handleRequests(Blackhole blackhole) throws Exception {
+        List<Future<Long>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executor.submit(this::handleRequest));
+        }
+        for (Future<Long> response : responses) {
+            blackhole.consume(response.get());
+        }
+    }
+
+    private Long handleRequest() throws InterruptedException {
+        Long userId = jwtUtil.verify(accessToken).getUserId();
+        Thread.sleep(blockingMillis);
+        return userId;
+    }
+}
@@ -1,17 +1,19 @@
 package com.ptpt.authservice.aspect;
 
-import com.ptpt.authservice.annotation.PasswordEncryption;
 import com.ptpt.authservice.service.EncryptService;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ObjectUtils;
+import org.springframework.web.bind.annotation.RequestBody;
 
-import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 @Aspect
 @Component
@@ -20,47 +22,58 @@ public class PasswordEncryptionAspect {
 
     private final EncryptService encryptService;
 
+    // 메서드별 @RequestBody 파라미터 위치
+    private final Map<Method, int[]> requestBodyIndexes = new ConcurrentHashMap<>();
+
     /**
      * Advice: Aspect의 기능을 정의한 것으로 메서드의 실행 전, 후, 예외 처리 발생 시 실행되는 코드를 의미
      * Around : 대상 “메서드” 실행 전, 후 또는 예외 발생 시에 Advice 를 실행합니다.
      *
+     * 요청 본문(@RequestBody)만 @PasswordEncryption 필드를 가질 수 있으므로 @RequestBody 파라미터가 있는 메서드만 대상으로 한다.
+     * (@AuthenticationPrincipal 로 받은 User 처럼 캐시와 공유되는 객체는 수정하지 않는다)
+     *
      * @param pjp
      * @return
      * @throws Throwable
      */
-    @Around("execution(* com.ptpt.authservice.controller..*.*(..))")
+    @Around("execution(* com.ptpt.authservice.controller..*.*(.., @org.springframework.web.bind.annotation.RequestBody (*), ..))")
     public Object passwordEncryptionAspect(ProceedingJoinPoint pjp) throws Throwable {
-        Arrays.stream(pjp.getArgs())
-                .forEach(this::fieldEncryption);
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        Object[] args = pjp.getArgs();
 
-        return pjp.proceed();
+        for (int index : requestBodyIndexes.computeIfAbsent(method, PasswordEncryptionAspect::findRequestBodyIndexes)) {
+            fieldEncryption(args[index]);
+        }
+
+        return pjp.proceed(args);
     }
 
     public void fieldEncryption(Object object) {
-        if (ObjectUtils.isEmpty(object)) {
+        if (object == null) {
+            return;
+        }
+
+        PasswordFieldPlan plan = PasswordFieldPlan.of(object.getClass());
+        if (plan.isEmpty()) {
             return;
         }
 
-        FieldUtils.getAllFieldsList(object.getClass())
-                .stream()
-                .filter(filter -> !(Modifier.isFinal(filter.getModifiers()) && Modifier.isStatic(filter.getModifiers())))
-                .forEach(field -> {
-                    try {
-                        boolean encryptionTarget = field.isAnnotationPresent(PasswordEncryption.class);
-                        if (!encryptionTarget) {
-                            return;
-                        }
+        plan.apply(object, encryptService::encrypt);
+    }
 
-                        Object encryptionField = FieldUtils.readField(field, object, true);
-                        if (!(encryptionField instanceof String)) {
-                            return;
-                        }
+    private static int[] findRequestBodyIndexes(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        return IntStream.range(0, parameterAnnotations.length)
+                .filter(i -> hasRequestBody(parameterAnnotations[i]))
+                .toArray();
+    }
 
-                        String encrypted = encryptService.encrypt((String) encryptionField);
-                        FieldUtils.writeField(field, object, encrypted);
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                });
+    private static boolean hasRequestBody(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof RequestBody) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
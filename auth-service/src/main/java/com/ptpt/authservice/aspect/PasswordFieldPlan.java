@@ -0,0 +1,85 @@
+package com.ptpt.authservice.aspect;
+
+import com.ptpt.authservice.annotation.PasswordEncryption;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 클래스별 @PasswordEncryption 필드 접근 계획
+ * - 클래스마다 한 번만 필드를 훑어 VarHandle 목록을 만들고 ClassValue 에 보관한다.
+ * - 대상 필드가 없는 클래스는 EMPTY 를 공유하므로 이후 호출은 조회 한 번으로 끝난다.
+ */
+public final class PasswordFieldPlan {
+
+    private static final PasswordFieldPlan EMPTY = new PasswordFieldPlan(new VarHandle[0]);
+
+    private static final ClassValue<PasswordFieldPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected PasswordFieldPlan computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    private final VarHandle[] fields;
+
+    private PasswordFieldPlan(VarHandle[] fields) {
+        this.fields = fields;
+    }
+
+    public static PasswordFieldPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    public boolean isEmpty() {
+        return fields.length == 0;
+    }
+
+    /**
+     * 대상 필드 중 null 이 아닌 값에 transform 을 적용해 다시 저장
+     */
+    public void apply(Object target, UnaryOperator<String> transform) {
+        for (VarHandle field : fields) {
+            String value = (String) field.get(target);
+            if (value != null) {
+                field.set(target, transform.apply(value));
+            }
+        }
+    }
+
+    private static PasswordFieldPlan build(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+            return EMPTY;
+        }
+
+        List<VarHandle> handles = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(PasswordEncryption.class)) {
+                    continue;
+                }
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())
+                        || field.getType() != String.class) {
+                    throw new IllegalStateException("@PasswordEncryption 은 static/final 이 아닌 String 필드에만 사용할 수 있습니다: " + field);
+                }
+                handles.add(findVarHandle(current, field));
+            }
+        }
+
+        return handles.isEmpty() ? EMPTY : new PasswordFieldPlan(handles.toArray(VarHandle[]::new));
+    }
+
+    private static VarHandle findVarHandle(Class<?> declaringClass, Field field) {
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup())
+                    .unreflectVarHandle(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("@PasswordEncryption 필드에 접근할 수 없습니다: " + field, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ptpt.authservice.config;
+
+import com.ptpt.authservice.exception.server.ServerBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 소셜 로그인의 JPA/토큰 발급 작업용 실행기
+     * - 소셜 API 응답은 Netty 스레드에서 받고, DB 작업만 이 풀에서 처리한다.
+     * - 커넥션 풀보다 크게 잡으면 커넥션 대기만 늘어나므로 Hikari 풀 크기에 맞춘다.
+     * - 큐가 가득 차면 ServerBusyException(503) 으로 바로 거절한다.
+     * - 가상 스레드 모드에서도 동시 실행 수는 같게 제한하고, 작업 스레드만 가상 스레드로 만든다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor socialLoginExecutor(
+            @Value("${social.login.executor.pool-size:10}") int poolSize,
+            @Value("${social.login.executor.queue-capacity:500}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("social-login-", 0).factory());
+        }
+        executor.setThreadNamePrefix("social-login-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((runnable, threadPoolExecutor) -> {
+            throw new ServerBusyException("소셜 로그인 요청이 많아 잠시 후 다시 시도해주세요.");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ptpt.authservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ptpt.authservice.repository.user.UserCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// 사용자 조회 캐시 설정
+// 이메일 / ID 키를 서로 다른 영역에 저장하고, 크기와 TTL 을 제한한다.
+// 트랜잭션 안에서 발생한 evict 는 커밋 이후에 반영된다 (TransactionAwareCacheManagerProxy).
+// 캐시 인터셉터를 트랜잭션 인터셉터보다 바깥에 두어 캐시 적중 시에는 트랜잭션(커넥션)을 열지 않는다.
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    @Value("${cache.users.maximum-size:10000}")
+    private long userCacheMaximumSize;
+
+    @Value("${cache.users.expire-after-write:10m}")
+    private Duration userCacheExpireAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.registerCustomCache(UserCache.BY_EMAIL, userCacheBuilder().build());
+        caffeineCacheManager.registerCustomCache(UserCache.BY_ID, userCacheBuilder().build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    private Caffeine<Object, Object> userCacheBuilder() {
+        return Caffeine.newBuilder()
+                .maximumSize(userCacheMaximumSize)
+                .expireAfterWrite(userCacheExpireAfterWrite)
+                .recordStats();
+    }
+}
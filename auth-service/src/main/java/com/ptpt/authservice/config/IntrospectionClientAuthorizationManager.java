@@ -0,0 +1,61 @@
+package com.ptpt.authservice.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * /auth/introspect 호출 클라이언트(게이트웨이 / 내부 서비스) 인증
+ * - X-Introspection-Key 헤더가 token-introspection.client-keys 중 하나와 같아야 한다 (교체 기간에는 쉼표로 여러 개).
+ * - 키를 설정하지 않으면 모든 요청을 거부한다.
+ */
+@Slf4j
+@Component
+public class IntrospectionClientAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String CLIENT_KEY_HEADER = "X-Introspection-Key";
+
+    private final List<byte[]> clientKeys;
+
+    public IntrospectionClientAuthorizationManager(@Value("${token-introspection.client-keys:}") String[] clientKeys) {
+        this.clientKeys = Arrays.stream(clientKeys)
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        if (this.clientKeys.isEmpty()) {
+            log.warn("token-introspection.client-keys 가 없어 /auth/introspect 요청을 모두 거부합니다.");
+        }
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isTrustedClient(context.getRequest()));
+    }
+
+    boolean isTrustedClient(HttpServletRequest request) {
+        String presented = request.getHeader(CLIENT_KEY_HEADER);
+        if (!StringUtils.hasText(presented)) {
+            return false;
+        }
+        byte[] presentedBytes = presented.getBytes(StandardCharsets.UTF_8);
+        // 키 비교 시간으로 일치 여부가 드러나지 않도록 상수 시간 비교
+        boolean matched = false;
+        for (byte[] clientKey : clientKeys) {
+            matched |= MessageDigest.isEqual(clientKey, presentedBytes);
+        }
+        return matched;
+    }
+}
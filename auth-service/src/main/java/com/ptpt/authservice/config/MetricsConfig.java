@@ -0,0 +1,90 @@
+package com.ptpt.authservice.config;
+
+import com.ptpt.authservice.config.datasource.ReplicaRoutingDataSource;
+import com.ptpt.authservice.repository.token.RevokedTokenFilter;
+import com.ptpt.authservice.repository.user.NicknameIndex;
+import com.ptpt.authservice.service.PasswordHashingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 구간별 Timer(AuthMetrics) 외에 상태 값으로 노출하는 메트릭
+// - Hikari 커넥션 풀(hikaricp_*), WebClient 커넥션 풀(reactor_netty_*)은 actuator 가 자동으로 등록한다.
+//   (replica 풀은 빈이 아니므로 PersistenceJpaConfig 에서 직접 등록)
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService passwordHashingService) {
+        return registry -> Gauge.builder("auth.password.hashing.queue", passwordHashingService, PasswordHashingService::getQueueDepth)
+                .description("BCrypt 해싱 대기 중인 작업 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        return registry -> replicaRoutingDataSource.ifAvailable(routing -> {
+            for (ReplicaRoutingDataSource.ReplicaStatus status : routing.getReplicaStatuses()) {
+                String poolName = status.poolName();
+                Gauge.builder("datasource.replica.healthy", routing, r -> replicaStatus(r, poolName).healthy() ? 1 : 0)
+                        .description("replica 가 읽기 대상에 포함되어 있는지 (1: 포함, 0: 제외)")
+                        .tag("pool", poolName)
+                        .register(registry);
+                Gauge.builder("datasource.replica.lag", routing, r -> replicaStatus(r, poolName).lagSeconds())
+                        .description("replica 복제 지연 (확인 실패 시 -1)")
+                        .tag("pool", poolName)
+                        .baseUnit("seconds")
+                        .register(registry);
+            }
+            FunctionCounter.builder("datasource.routing.reads", routing, ReplicaRoutingDataSource::getReplicaReads)
+                    .description("replica 로 보낸 읽기 전용 트랜잭션 수")
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("datasource.routing.reads", routing, ReplicaRoutingDataSource::getPrimaryFallbackReads)
+                    .description("정상 replica 가 없어 primary 로 보낸 읽기 전용 트랜잭션 수")
+                    .tag("target", "primary")
+                    .register(registry);
+        });
+    }
+
+    private static ReplicaRoutingDataSource.ReplicaStatus replicaStatus(ReplicaRoutingDataSource routing, String poolName) {
+        return routing.getReplicaStatuses().stream()
+                .filter(status -> status.poolName().equals(poolName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Bean
+    public MeterBinder revokedTokenFilterMetrics(RevokedTokenFilter revokedTokenFilter) {
+        return registry -> {
+            FunctionCounter.builder("auth.revocation.filter.negatives", revokedTokenFilter, filter -> filter.stats().getFilterNegatives())
+                    .description("저장소 조회 없이 폐기되지 않음으로 판단한 횟수")
+                    .register(registry);
+            FunctionCounter.builder("auth.revocation.store.lookups", revokedTokenFilter, filter -> filter.stats().getStoreLookups())
+                    .description("폐기 토큰 저장소 조회 횟수")
+                    .register(registry);
+            FunctionCounter.builder("auth.revocation.filter.false-positives", revokedTokenFilter, filter -> filter.stats().getFalsePositives())
+                    .description("필터는 있을 수 있다고 했지만 저장소에 없던 횟수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder nicknameIndexMetrics(NicknameIndex nicknameIndex) {
+        return registry -> {
+            Gauge.builder("auth.nickname.index.size", nicknameIndex, index -> index.stats().getSize())
+                    .description("메모리 닉네임 색인의 닉네임 수")
+                    .register(registry);
+            FunctionCounter.builder("auth.nickname.index.lookups", nicknameIndex, index -> index.stats().getLookups())
+                    .description("닉네임 색인 조회 횟수")
+                    .register(registry);
+            FunctionCounter.builder("auth.nickname.index.bloom.negatives", nicknameIndex, index -> index.stats().getBloomNegatives())
+                    .description("Bloom filter 만으로 없음을 판단한 횟수")
+                    .register(registry);
+        };
+    }
+}
@@ -1,18 +1,33 @@
 package com.ptpt.authservice.config;
 
+import com.ptpt.authservice.config.datasource.ReplicaRoutingDataSource;
 import com.ptpt.authservice.entity.EntityModule;
 import com.ptpt.authservice.repository.RepositoryModule;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 // 전체 엔티티 스캔과 레파지토리를 스캔하는 것이 아니라
 // Module 이 포함된 클래스만 스캔을 하겠다라는 의미이다.
@@ -25,8 +40,53 @@ public class PersistenceJpaConfig {
 
     @Bean
     @ConfigurationProperties(prefix = "spring.datasource.hikari")
-    public DataSource dataSource() {
-        return DataSourceBuilder.create().build();
+    public HikariDataSource primaryDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * replica 풀 (spring.datasource.replica.jdbc-urls 가 있을 때만)
+     * - 각 풀은 spring.datasource.hikari 설정 위에 spring.datasource.replica.hikari 설정을 덮어써서 만든다.
+     * - replica 가 내려가 있어도 기동은 되도록 풀 초기화 실패를 무시하고, 상태는 ReplicaRoutingDataSource 가 확인한다.
+     */
+    @Bean
+    @ConditionalOnExpression("'${spring.datasource.replica.jdbc-urls:}' != ''")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             Environment environment,
+                                                             ObjectProvider<MeterRegistry> meterRegistry,
+                                                             @Value("${spring.datasource.replica.jdbc-urls}") List<String> jdbcUrls,
+                                                             @Value("${spring.datasource.replica.max-lag:5s}") Duration maxLag,
+                                                             @Value("${spring.datasource.replica.check-interval:5s}") Duration checkInterval,
+                                                             @Value("${spring.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                                             @Value("${spring.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn) {
+        Binder binder = Binder.get(environment);
+        List<HikariDataSource> replicaPools = new ArrayList<>();
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(config));
+            binder.bind("spring.datasource.replica.hikari", Bindable.ofInstance(config));
+            config.setJdbcUrl(jdbcUrls.get(i).trim());
+            config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + i);
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            // replica 풀은 빈이 아니므로 actuator 가 hikaricp_* 메트릭을 자동 등록하지 않는다
+            meterRegistry.ifAvailable(config::setMetricRegistry);
+            replicaPools.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaPools, maxLag, checkInterval, lagQuery, lagColumn);
+    }
+
+    /**
+     * JPA 가 사용하는 DataSource
+     * - replica 가 없으면 primary 풀을 그대로 사용
+     * - replica 가 있으면 트랜잭션의 readOnly 여부가 정해진 뒤(첫 SQL 실행 시) 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싼다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        ReplicaRoutingDataSource routingDataSource = replicaRoutingDataSource.getIfAvailable();
+        return routingDataSource == null ? primaryDataSource : new LazyConnectionDataSourceProxy(routingDataSource);
     }
 
 //    @Bean
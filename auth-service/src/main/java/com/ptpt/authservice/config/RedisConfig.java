@@ -0,0 +1,15 @@
+package com.ptpt.authservice.config;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+
+// Redis 연결 설정 (jwt.revocation.store=redis 일 때만)
+// RedisAutoConfiguration 은 application.yml 의 spring.autoconfigure.exclude 로 기본 제외하고 여기서만 가져온다.
+// memory 저장소에서는 RedisConnectionFactory 가 없으므로 Redis health indicator 도 등록되지 않는다 (/actuator/health DOWN 방지).
+@Configuration
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "redis")
+@ImportAutoConfiguration(RedisAutoConfiguration.class)
+public class RedisConfig {
+}
@@ -3,7 +3,9 @@ package com.ptpt.authservice.config;
 import com.ptpt.authservice.filter.JwtAuthenticationFilter;
 import com.ptpt.authservice.exception.handler.CustomAccessDeniedHandler;
 import com.ptpt.authservice.exception.handler.CustomAuthenticationEntryPoint;
+import com.ptpt.authservice.util.BCryptStrengthCalibrator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,6 +23,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 @Configuration
@@ -31,11 +34,22 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final IntrospectionClientAuthorizationManager introspectionClientAuthorizationManager;
 
 
+    /**
+     * BCrypt cost 는 password.hashing.strength 로 고정하거나, 0 이면 기동 시 target-latency 에 맞춰 정한다.
+     * 저장된 해시의 cost 가 더 낮으면 로그인 성공 시 다시 해싱한다. (UserService.upgradePasswordHashIfNeeded)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.strength:0}") int strength,
+                                           @Value("${password.hashing.target-latency:250ms}") Duration targetLatency,
+                                           @Value("${password.hashing.min-strength:10}") int minStrength,
+                                           @Value("${password.hashing.max-strength:14}") int maxStrength) {
+        int resolvedStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+        return new BCryptPasswordEncoder(resolvedStrength);
     }
 
     @Bean
@@ -62,8 +76,12 @@ public class SecurityConfig {
             c.requestMatchers("/images/profiles/**").permitAll();
             c.requestMatchers("/social/**").permitAll();
             c.requestMatchers("/img/**", "/css/**", "/js/**").permitAll(); // 정적 리소스 허용
+            c.requestMatchers(HttpMethod.POST, "/auth/introspect").access(introspectionClientAuthorizationManager);  // 게이트웨이 / 내부 서비스만 (클라이언트 키)
             c.requestMatchers("/auth/**").permitAll();  // 인증 관련 엔드포인트 허용
+            c.requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll();  // 토큰 검증용 공개키
+            c.requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/prometheus").permitAll();  // 헬스 체크 / 메트릭 수집 (외부 노출은 네트워크에서 차단)
             c.requestMatchers(HttpMethod.POST, "/api/users").permitAll();  // 회원가입만 허용
+            c.requestMatchers(HttpMethod.GET, "/api/users/nickname-availability").permitAll();  // 가입 화면의 닉네임 확인
             c.anyRequest().authenticated();
         });
 
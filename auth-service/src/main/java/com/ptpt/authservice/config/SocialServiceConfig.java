@@ -4,11 +4,24 @@ import com.ptpt.authservice.enums.SocialProvider;
 import com.ptpt.authservice.service.SocialService;
 import com.ptpt.authservice.service.impl.AppleService;
 import com.ptpt.authservice.service.impl.KakaoService;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class SocialServiceConfig {
@@ -27,5 +40,77 @@ public class SocialServiceConfig {
 
         return services;
     }
-}
 
+    /**
+     * 소셜 API 호출용 커넥션 풀 (원격 호스트별로 풀이 나뉘고, 풀 상태는 reactor.netty.connection.provider.* 메트릭으로 노출)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider socialConnectionProvider(
+            @Value("${social.http.max-connections:50}") int maxConnections,
+            @Value("${social.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${social.http.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${social.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${social.http.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${social.http.evict-in-background:30s}") Duration evictInBackground
+    ) {
+        return ConnectionProvider.builder("social")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 소셜 로그인 중 블로킹 작업(Apple 서명 검증, 공개키 재조회 대기)용 스케줄러
+     * - 가상 스레드 모드에서는 작업마다 가상 스레드를 쓰고, 아니면 크기가 제한된 elastic 풀을 쓴다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler socialBlockingScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "social-blocking");
+        }
+        return Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "social-blocking");
+    }
+
+    /**
+     * 소셜 제공자별 WebClient (로그인마다 새로 만들지 않고 커넥션 풀을 공유)
+     */
+    @Bean
+    public Map<SocialProvider, WebClient> socialWebClients(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider socialConnectionProvider,
+            @Value("${social.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${social.http.read-timeout:3s}") Duration readTimeout,
+            @Value("${social.http.response-timeout:3s}") Duration responseTimeout,
+            @Value("${kakao.kauth-user-url}") String kakaoBaseUrl,
+            @Value("${apple.public-key-url:https://appleid.apple.com/auth/keys}") String applePublicKeyUrl
+    ) {
+        HttpClient httpClient = HttpClient.create(socialConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout)
+                .metrics(true, uri -> "/")
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+        ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+
+        Map<SocialProvider, WebClient> webClients = new EnumMap<>(SocialProvider.class);
+        webClients.put(SocialProvider.KAKAO, webClientBuilder.clone()
+                .clientConnector(connector)
+                .baseUrl(kakaoBaseUrl)
+                .build());
+        webClients.put(SocialProvider.APPLE, webClientBuilder.clone()
+                .clientConnector(connector)
+                .baseUrl(applePublicKeyUrl)
+                .build());
+
+        return webClients;
+    }
+}
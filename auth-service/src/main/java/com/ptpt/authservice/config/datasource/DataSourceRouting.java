@@ -0,0 +1,31 @@
+package com.ptpt.authservice.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 replica 대신 primary 로 보내도록 지정
+ * - 커넥션은 첫 SQL 실행 시점에 가져오므로(LazyConnectionDataSourceProxy) 트랜잭션 안이라도 첫 조회 전에 호출하면 적용된다.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (isPrimaryForced()) {
+            return action.get();
+        }
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
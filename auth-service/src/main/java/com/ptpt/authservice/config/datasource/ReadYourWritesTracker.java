@@ -0,0 +1,58 @@
+package com.ptpt.authservice.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 자기 쓰기 직후 읽기(read-your-writes) 보장
+ * - 가입 / 프로필 수정 등으로 사용자를 저장하면 sticky-window 동안 그 사용자(id, email) 조회는 primary 에서 읽는다.
+ * - replica 지연 동안 오래된 값을 읽거나, 그 값이 사용자 캐시에 다시 들어가는 것을 막는다.
+ * - 인스턴스 메모리에만 기록하므로 sticky-window 는 replica 지연 허용치(max-lag)보다 길게 잡는다.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(@Value("${spring.datasource.replica.sticky-window:10s}") Duration stickyWindow,
+                                 @Value("${spring.datasource.replica.sticky-maximum-size:100000}") long maximumSize) {
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void markWritten(Long userId, String email) {
+        if (userId != null) {
+            recentWrites.put(idKey(userId), Boolean.TRUE);
+        }
+        if (email != null) {
+            recentWrites.put(emailKey(email), Boolean.TRUE);
+        }
+    }
+
+    public <T> T readByEmail(String email, Supplier<T> query) {
+        return email != null && recentWrites.getIfPresent(emailKey(email)) != null
+                ? DataSourceRouting.onPrimary(query)
+                : query.get();
+    }
+
+    public <T> T readById(Long userId, Supplier<T> query) {
+        return userId != null && recentWrites.getIfPresent(idKey(userId)) != null
+                ? DataSourceRouting.onPrimary(query)
+                : query.get();
+    }
+
+    private static String idKey(Long userId) {
+        return "id:" + userId;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email;
+    }
+}
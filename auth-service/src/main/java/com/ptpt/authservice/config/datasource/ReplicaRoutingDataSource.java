@@ -0,0 +1,165 @@
+package com.ptpt.authservice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 트랜잭션을 replica 풀로 보내는 DataSource
+ * - readOnly 트랜잭션 -> 정상 replica 중 하나(라운드 로빈), 그 외(쓰기, 트랜잭션 없음, DataSourceRouting.onPrimary) -> primary
+ * - check-interval 마다 replica 연결과 복제 지연(lag-query 의 lag-column 초)을 확인하고,
+ *   연결 실패 / 복제 중단 / max-lag 초과인 replica 는 다시 정상이 될 때까지 제외한다. 모두 제외되면 primary 로 읽는다.
+ * - 트랜잭션 시작 뒤에 readOnly 여부가 정해지므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                    Duration maxLag, Duration checkInterval, String lagQuery, String lagColumn) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.pool.getPoolName(), replica.pool));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 첫 확인 전까지는 모든 replica 를 제외 상태로 두고 primary 로 읽는다
+        checkReplicas();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || DataSourceRouting.isPrimaryForced()) {
+            return PRIMARY;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                replicaReads.increment();
+                return replica.pool.getPoolName();
+            }
+        }
+
+        primaryReads.increment();
+        return PRIMARY;
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try {
+                replica.lagSeconds = measureLagSeconds(replica.pool);
+                replica.healthy = replica.lagSeconds >= 0 && replica.lagSeconds <= maxLag.toSeconds();
+            } catch (SQLException | RuntimeException e) {
+                replica.lagSeconds = -1;
+                replica.healthy = false;
+            }
+
+            if (wasHealthy != replica.healthy) {
+                log.warn("replica 상태 변경 - pool: {}, healthy: {}, lag: {}s", replica.pool.getPoolName(), replica.healthy, replica.lagSeconds);
+            }
+        }
+    }
+
+    /**
+     * 복제 지연(초). 복제가 멈춰 값이 없으면 -1, 복제 상태 행이 없으면(복제 대상이 아닌 DB) 0
+     */
+    private long measureLagSeconds(HikariDataSource pool) throws SQLException {
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(Math.max(1, (int) checkInterval.toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return 0;
+                }
+                long lag = resultSet.getLong(lagColumn);
+                return resultSet.wasNull() ? -1 : lag;
+            }
+        }
+    }
+
+    public List<ReplicaStatus> getReplicaStatuses() {
+        return replicas.stream()
+                .map(replica -> new ReplicaStatus(replica.pool.getPoolName(), replica.healthy, replica.lagSeconds))
+                .toList();
+    }
+
+    /** 정상 replica 가 없어 primary 로 보낸 읽기 수 */
+    public long getPrimaryFallbackReads() {
+        return primaryReads.sum();
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    public record ReplicaStatus(String poolName, boolean healthy, long lagSeconds) {
+    }
+
+    private static class Replica {
+        private final HikariDataSource pool;
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
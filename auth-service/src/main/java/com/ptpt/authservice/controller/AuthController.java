@@ -2,27 +2,39 @@ package com.ptpt.authservice.controller;
 
 import com.ptpt.authservice.controller.request.LoginRequest;
 import com.ptpt.authservice.controller.request.RefreshTokenRequest;
+import com.ptpt.authservice.controller.request.TokenIntrospectionRequest;
 import com.ptpt.authservice.controller.response.CustomApiResponse;
+import com.ptpt.authservice.controller.response.TokenIntrospectionResponse;
 import com.ptpt.authservice.controller.response.TokenResponse;
 import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.exception.AuthServiceException;
 import com.ptpt.authservice.exception.token.BlacklistedTokenException;
 import com.ptpt.authservice.exception.token.InvalidTokenException;
+import com.ptpt.authservice.exception.user.UserNotFoundException;
 import com.ptpt.authservice.service.AuthService;
 import com.ptpt.authservice.service.JwtBlacklistService;
+import com.ptpt.authservice.service.LoginThrottleService;
+import com.ptpt.authservice.service.TokenIntrospectionService;
 import com.ptpt.authservice.swagger.SwaggerAuthResponseDTO;
 import com.ptpt.authservice.swagger.SwaggerErrorResponseDTO;
+import com.ptpt.authservice.util.AuthMetrics;
 import com.ptpt.authservice.util.JwtUtil;
+import com.ptpt.authservice.util.VerifiedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @Tag(name = "인증 API", description = "로그인 및 토큰 관리 API")
@@ -32,6 +44,12 @@ public class AuthController {
     private final JwtUtil jwtUtil;
     private final AuthService authService;
     private final JwtBlacklistService jwtBlacklistService;
+    private final LoginThrottleService loginThrottleService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final AuthMetrics authMetrics;
+
+    @Value("${login-throttle.trusted-proxy-count:0}")
+    private int trustedProxyCount;
 
     @Operation(
             summary = "로그인 API",
@@ -56,7 +74,8 @@ public class AuthController {
             )
     })
     @PostMapping("/login")
-    public ResponseEntity<CustomApiResponse<TokenResponse>> login(@RequestBody LoginRequest loginRequest) {
+    public ResponseEntity<CustomApiResponse<TokenResponse>> login(@RequestBody LoginRequest loginRequest,
+                                                                  HttpServletRequest httpRequest) {
 //        try {
 //            TokenResponse tokenResponse = authService.authenticateUser(loginRequest);
 //
@@ -84,10 +103,44 @@ public class AuthController {
 //            return ResponseEntity.badRequest().body(
 //                    CustomApiResponse.of(ApiResponseCode.AUTH_LOGIN_FAILED, e.getMessage(), null));
 //        }
-        TokenResponse tokenResponse = authService.authenticateUser(loginRequest);
+        String clientIp = resolveClientIp(httpRequest);
+
+        // BCrypt 검증, DB 조회 전에 시도 횟수부터 확인
+        loginThrottleService.checkAllowed(loginRequest.getEmail(), clientIp);
+
+        TokenResponse tokenResponse;
+        try {
+            tokenResponse = authService.authenticateUser(loginRequest);
+        } catch (UserNotFoundException e) {
+            loginThrottleService.recordFailure(loginRequest.getEmail(), clientIp);
+            throw e;
+        } catch (AuthServiceException e) {
+            if (e.getResponseCode() == ApiResponseCode.AUTH_LOGIN_FAILED) {
+                loginThrottleService.recordFailure(loginRequest.getEmail(), clientIp);
+            }
+            throw e;
+        }
+
+        loginThrottleService.recordSuccess(loginRequest.getEmail());
         return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.AUTH_LOGIN_SUCCESS, tokenResponse));
     }
 
+    /**
+     * 클라이언트 IP
+     * - X-Forwarded-For 의 앞쪽 값은 클라이언트가 마음대로 넣을 수 있으므로, 신뢰하는 프록시 수(login-throttle.trusted-proxy-count)만큼
+     *   오른쪽에서 센 값(각 프록시가 직접 본 주소)을 사용한다. 0 이면 헤더를 무시한다.
+     */
+    private String resolveClientIp(HttpServletRequest httpRequest) {
+        if (trustedProxyCount > 0) {
+            String forwardedFor = httpRequest.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String[] hops = forwardedFor.split(",");
+                return hops[Math.max(0, hops.length - trustedProxyCount)].trim();
+            }
+        }
+        return httpRequest.getRemoteAddr();
+    }
+
     // Access Token 갱신을 위한 API
     @Operation(
             summary = "토큰 갱신 API",
@@ -113,23 +166,20 @@ public class AuthController {
     })
     @PostMapping("/token/refresh")
     public ResponseEntity<CustomApiResponse<TokenResponse>> refreshToken(@RequestBody RefreshTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
-
-        // 블랙리스트에 Refresh Token이 있는지 확인
-        if (jwtBlacklistService.isTokenBlacklisted(refreshToken)) {
-            throw new BlacklistedTokenException();
+        // Refresh Token 검증 (한 번만 파싱)
+        VerifiedToken verifiedToken = authMetrics.recordPhase("refresh_verify", () -> jwtUtil.verify(request.getRefreshToken()));
+        if (!verifiedToken.isRefreshToken()) {
+            throw new InvalidTokenException("리프레시 토큰이 아닙니다.");
         }
 
-        // Refresh Token이 유효한지 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new InvalidTokenException();
+        // 사용한 Refresh Token 은 폐기 (토큰 회전)
+        // 이미 폐기된 토큰이면 재사용으로 보고 거부한다
+        if (!authMetrics.recordPhase("refresh_revocation", () -> jwtBlacklistService.blacklistRefreshToken(verifiedToken))) {
+            throw new BlacklistedTokenException();
         }
 
         // Refresh Token에서 이메일 추출
-        String email = jwtUtil.extractEmail(refreshToken);
-
-        // 기존 Refresh Token을 블랙리스트에 추가
-//            jwtBlacklistService.addToBlacklist(refreshToken);
+        String email = verifiedToken.getSubject();
 
         // 새로운 Access Token과 Refresh Token 발급
         TokenResponse tokenResponse = authService.refreshAccessToken(email);
@@ -137,6 +187,41 @@ public class AuthController {
         return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.AUTH_REFRESH_SUCCESS, tokenResponse));
     }
 
+    // 게이트웨이 / 내부 서비스용 토큰 일괄 검증 API
+    @Operation(
+            summary = "토큰 일괄 검증 API",
+            description = "여러 토큰의 유효성, 종류, subject, userId, 만료 시각, 폐기 여부를 한 번에 확인합니다. 결과는 요청한 토큰 순서대로 반환됩니다. "
+                    + "게이트웨이 / 내부 서비스 전용이며 X-Introspection-Key 헤더에 발급받은 클라이언트 키를 보내야 합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "검증 완료 (토큰별 결과는 active 로 확인)"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "토큰 목록이 비었거나 최대 개수 초과",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SwaggerErrorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "클라이언트 키(X-Introspection-Key) 누락 또는 불일치",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SwaggerErrorResponseDTO.class)
+                    )
+            )
+    })
+    @PostMapping("/introspect")
+    public ResponseEntity<CustomApiResponse<List<TokenIntrospectionResponse>>> introspect(@RequestBody TokenIntrospectionRequest request) {
+        List<TokenIntrospectionResponse> results = tokenIntrospectionService.introspect(request.getTokens());
+
+        return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.AUTH_INTROSPECT_SUCCESS, results));
+    }
+
     // Access Token 갱신을 위한 API
 //    @PostMapping("/token/refresh")
 //    public ResponseEntity<ApiResponse<TokenResponseDto>> refreshToken(@RequestBody String refreshToken) {
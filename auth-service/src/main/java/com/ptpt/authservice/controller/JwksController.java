@@ -0,0 +1,36 @@
+package com.ptpt.authservice.controller;
+
+import com.ptpt.authservice.util.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@Tag(name = "JWKS API", description = "토큰 서명 검증용 공개키 API")
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing jwtKeyRing;
+
+    // jwt.signing.publish-ahead 보다 짧아야 다음 키가 활성화되기 전에 캐시가 갱신된다
+    @Value("${jwt.signing.jwks-max-age:5m}")
+    private Duration jwksMaxAge;
+
+    @Operation(
+            summary = "JWKS API",
+            description = "토큰 서명 검증용 공개키 목록을 반환합니다. (RFC 7517 JWK Set, 다음 키 포함)"
+    )
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwksMaxAge).cachePublic())
+                .body(Map.of("keys", jwtKeyRing.getPublicJwks()));
+    }
+}
@@ -42,6 +42,7 @@ import com.ptpt.authservice.service.TokenService;
 import com.ptpt.authservice.service.UserService;
 import com.ptpt.authservice.swagger.SwaggerAuthResponseDTO;
 import com.ptpt.authservice.swagger.SwaggerErrorResponseDTO;
+import com.ptpt.authservice.util.LogMasking;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -53,6 +54,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 //// 카카오 로그인 구현: https://ddonghyeo.tistory.com/16
@@ -286,9 +289,14 @@ public class SocialController {
     private final UserService userService;
     private final TokenService tokenService;
     private final AuthService authService;
+    private final Executor socialLoginExecutor;
 
+    /**
+     * 소셜 로그인 (비동기)
+     * - 소셜 플랫폼 호출 동안 요청 스레드를 점유하지 않고, 응답이 오면 DB 작업만 socialLoginExecutor 에서 처리한다.
+     */
     @PostMapping("/login")
-    public ResponseEntity<CustomApiResponse<?>> socialLogin(@RequestBody AccessTokenRequest request) {
+    public CompletableFuture<ResponseEntity<CustomApiResponse<?>>> socialLogin(@RequestBody AccessTokenRequest request) {
         log.info("소셜 로그인 요청 - provider: {}", request.getProvider());
 
         // 소셜 제공자 enum으로 변환
@@ -298,8 +306,19 @@ public class SocialController {
         SocialService service = getSocialService(provider);
 
         // 1. 소셜 플랫폼에서 사용자 정보 조회
-        SocialUserInfo socialUserInfo = service.getUserInfo(request.getAccessToken());
-        log.info("소셜 사용자 정보 조회 완료 - email: {}", socialUserInfo.getEmail());
+        return service.getUserInfo(request.getAccessToken())
+                .toFuture()
+                .thenApplyAsync(socialUserInfo -> completeSocialLogin(provider, socialUserInfo), socialLoginExecutor);
+    }
+
+    /**
+     * 소셜 사용자 정보로 로그인 또는 회원가입 필요 응답 생성
+     */
+    private ResponseEntity<CustomApiResponse<?>> completeSocialLogin(SocialProvider provider, SocialUserInfo socialUserInfo) {
+        log.atDebug()
+                .setMessage("소셜 사용자 정보 조회 완료")
+                .addKeyValue("email", () -> LogMasking.email(socialUserInfo.getEmail()))
+                .log();
 
         // 2. 기존 사용자 확인
         Optional<User> existingUser = userService.findByEmail(socialUserInfo.getEmail());
@@ -3,11 +3,15 @@ package com.ptpt.authservice.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ptpt.authservice.controller.request.EncryptedUserRequestBody;
 import com.ptpt.authservice.controller.request.UserUpdateRequestBody;
+import com.ptpt.authservice.controller.response.NicknameAvailabilityResponse;
 import com.ptpt.authservice.controller.response.UserProfileResponse;
 import com.ptpt.authservice.controller.response.UserResponse;
+import com.ptpt.authservice.controller.response.UserSearchResponse;
+import com.ptpt.authservice.controller.response.UserSliceResponse;
 import com.ptpt.authservice.controller.response.CustomApiResponse;
 import com.ptpt.authservice.dto.User;
 import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.enums.NicknameSearchMode;
 import com.ptpt.authservice.exception.AuthServiceException;
 import com.ptpt.authservice.service.UserService;
 import com.ptpt.authservice.swagger.SwaggerErrorResponseDTO;
@@ -130,6 +134,59 @@ public class UserController implements UserControllerDocs {
         return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.USER_UPDATE_SUCCESS, responseData));
     }
 
+    @Operation(
+            summary = "관심 스포츠별 사용자 조회 API",
+            description = "관심 스포츠(필수)와 지역(선택)이 같은 사용자를 id 내림차순으로 조회합니다. "
+                    + "다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            tags = {"사용자 API"}
+    )
+    @GetMapping(value = "/users", params = "sport")
+    public ResponseEntity<CustomApiResponse<UserSliceResponse>> getUsersBySport(
+            @RequestParam String sport,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        UserSliceResponse users = userService.findUsersBySport(sport, location, cursor, size);
+
+        return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.USER_READ_SUCCESS, users));
+    }
+
+    @Operation(
+            summary = "닉네임 검색 API",
+            description = "mode=PREFIX 는 접두어 일치(자동완성, 닉네임 사전순), mode=CONTAINS 는 부분 일치(2자 이상, id 내림차순)로 검색합니다. "
+                    + "다음 페이지는 응답의 nextCursor 를 cursor 로 그대로 전달합니다.",
+            security = @SecurityRequirement(name = "BearerAuth"),
+            tags = {"사용자 API"}
+    )
+    @GetMapping("/users/search")
+    public ResponseEntity<CustomApiResponse<UserSearchResponse>> searchUsers(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "CONTAINS") NicknameSearchMode mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        UserSearchResponse users = userService.searchUsersByNickname(keyword, mode, cursor, size);
+
+        return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.USER_READ_SUCCESS, users));
+    }
+
+    @Operation(
+            summary = "닉네임 사용 가능 여부 API",
+            description = "닉네임 사용 가능 여부를 확인하고, 사용 중이면 대신 쓸 수 있는 닉네임을 추천합니다. "
+                    + "가입 / 수정 시 다시 확인하므로 응답 이후 다른 사용자가 먼저 사용하면 실패할 수 있습니다.",
+            tags = {"사용자 API"}
+    )
+    @GetMapping("/users/nickname-availability")
+    public ResponseEntity<CustomApiResponse<NicknameAvailabilityResponse>> checkNicknameAvailability(
+            @RequestParam String nickname) {
+
+        NicknameAvailabilityResponse availability = userService.checkNicknameAvailability(nickname);
+
+        return ResponseEntity.ok(CustomApiResponse.of(ApiResponseCode.USER_READ_SUCCESS, availability));
+    }
+
     @Operation(
             summary = "사용자 정보 조회 API",
             description = "현재 로그인한 사용자의 정보를 조회합니다.",
@@ -167,9 +224,6 @@ public class UserController implements UserControllerDocs {
         // 인증된 사용자의 정보를 가져옵니다
         User user = userService.getUserByEmail(userDetails.getEmail());
 
-        log.info("관심 스포츠 JSON: {}", user.getInterestedSports());
-        log.info("관심 스포츠 List: {}", user.getInterestedSportsList());
-
         UserResponse responseData = UserResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
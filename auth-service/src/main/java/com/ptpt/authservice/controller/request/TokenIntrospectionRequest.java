@@ -0,0 +1,19 @@
+package com.ptpt.authservice.controller.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor  // Jackson 직렬화를 위해 추가
+@Schema(description = "토큰 일괄 검증 요청")
+public class TokenIntrospectionRequest {
+
+    @Schema(description = "검증할 토큰 목록 (최대 token-introspection.max-tokens 개)",
+            example = "[\"eyJhbGciOiJFUzI1NiIsImtpZCI6Ii4uLiJ9...\"]")
+    private List<String> tokens;
+}
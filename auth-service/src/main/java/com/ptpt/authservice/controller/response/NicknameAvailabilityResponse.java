@@ -0,0 +1,22 @@
+package com.ptpt.authservice.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "닉네임 사용 가능 여부")
+public class NicknameAvailabilityResponse {
+
+    @Schema(description = "확인한 닉네임 (앞뒤 공백 제거)", example = "runner")
+    private String nickname;
+
+    @Schema(description = "사용 가능 여부 (가입 시점에 다시 확인하므로 먼저 가입한 사용자가 있으면 실패할 수 있음)", example = "false")
+    private boolean available;
+
+    @Schema(description = "사용 중일 때 대신 쓸 수 있는 닉네임 (사용 가능하면 빈 목록)", example = "[\"runner27\", \"runner58\"]")
+    private List<String> suggestions;
+}
@@ -0,0 +1,41 @@
+package com.ptpt.authservice.controller.response;
+
+import com.ptpt.authservice.enums.ApiResponseCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "토큰 검증 결과 DTO (요청한 토큰 순서대로 반환)")
+public class TokenIntrospectionResponse {
+
+    @Schema(description = "사용 가능한 토큰 여부 (서명/만료 검증을 통과하고 폐기되지 않음)", example = "true")
+    private boolean active;
+
+    @Schema(description = "토큰 종류 (ACCESS / REFRESH / TEMP)", example = "ACCESS")
+    private String tokenType;
+
+    @Schema(description = "토큰 subject (이메일)", example = "user@example.com")
+    private String subject;
+
+    @Schema(description = "사용자 ID (Access Token 만)", example = "1")
+    private Long userId;
+
+    @Schema(description = "만료 시각(epoch 밀리초)", example = "1767225600000")
+    private Long expiresAt;
+
+    @Schema(description = "폐기된 토큰 여부", example = "false")
+    private boolean revoked;
+
+    @Schema(description = "사용할 수 없는 이유 (응답 코드)", example = "E0104")
+    private String errorCode;
+
+    public static TokenIntrospectionResponse inactive(ApiResponseCode responseCode) {
+        return TokenIntrospectionResponse.builder()
+                .active(false)
+                .errorCode(responseCode.getCode())
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ptpt.authservice.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "닉네임 검색 결과 (커서 페이징)")
+public class UserSearchResponse {
+
+    @Schema(description = "사용자 목록 (PREFIX: 닉네임 사전순, CONTAINS: id 내림차순)")
+    private List<UserProfileResponse> users;
+
+    @Schema(description = "다음 페이지 조회 시 cursor 로 그대로 전달할 값 (마지막 페이지면 null)", example = "1024")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package com.ptpt.authservice.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "사용자 목록 (커서 페이징)")
+public class UserSliceResponse {
+
+    @Schema(description = "사용자 목록 (id 내림차순)")
+    private List<UserProfileResponse> users;
+
+    @Schema(description = "다음 페이지 조회 시 cursor 로 전달할 값 (마지막 페이지면 null)", example = "1024")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -40,7 +40,7 @@ public class TempUserInfo {
      * 완전한 회원가입 정보로 User Domain 객체 생성
      */
     public User toUserDomain(String phoneNumber, LocalDate birthDate, String location,
-                             String interestedSportsJson, String userUploadedImage, String bio) {
+                             List<String> interestedSports, String userUploadedImage, String bio) {
         return User.createSocialUser(
                 this.email,
                 this.nickname,
@@ -50,7 +50,7 @@ public class TempUserInfo {
                 phoneNumber,
                 birthDate,
                 location,
-                interestedSportsJson,
+                interestedSports,
                 userUploadedImage, // 사용자가 직접 업로드한 이미지
                 bio
         );
@@ -60,7 +60,7 @@ public class TempUserInfo {
      * CompleteSignupRequest로부터 User Domain 객체 생성
      */
     public User toUserDomain(com.ptpt.authservice.controller.request.CompleteSignupRequest request,
-                             String interestedSportsJson) {
+                             List<String> interestedSports) {
         return User.createSocialUser(
                 this.email,
                 request.getNickname() != null ? request.getNickname() : this.nickname,
@@ -70,7 +70,7 @@ public class TempUserInfo {
                 request.getPhoneNumber(),
                 request.getBirthDate(),
                 request.getLocation(),
-                interestedSportsJson,
+                interestedSports,
                 request.getProfileImageUrl(), // 사용자가 새로 업로드한 이미지
                 request.getBio()
         );
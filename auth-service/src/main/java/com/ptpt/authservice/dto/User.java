@@ -1,9 +1,6 @@
 package com.ptpt.authservice.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ptpt.authservice.annotation.PasswordEncryption;
 import com.ptpt.authservice.entity.user.UserEntity;
 import lombok.Builder;
@@ -22,7 +19,7 @@ import java.util.List;
 
 @Slf4j
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class User implements UserDetails {
 
     private Long id;
@@ -38,7 +35,7 @@ public class User implements UserDetails {
     // 추가된 프로필 정보
     private LocalDate birthDate; // 생년월일
     private String location; // 거주지
-    private String interestedSports; // 관심 스포츠 (JSON 문자열)
+    private List<String> interestedSports; // 관심 스포츠 (불변 목록, 로딩 시 한 번만 구성)
 
     // 소셜 로그인 관련 필드
     private String socialId;
@@ -107,20 +104,10 @@ public class User implements UserDetails {
     }
 
     /**
-     * 관심 스포츠 JSON 문자열을 List로 변환
+     * 관심 스포츠 목록 (없으면 빈 목록)
      */
     public List<String> getInterestedSportsList() {
-        if (interestedSports == null || interestedSports.isEmpty()) {
-            return List.of();
-        }
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            return objectMapper.readValue(interestedSports, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            log.warn("관심 스포츠 JSON 파싱 실패 - userId: {}, json: {}", id, interestedSports);
-            return List.of();
-        }
+        return interestedSports == null ? List.of() : interestedSports;
     }
 
     /**
@@ -147,17 +134,6 @@ public class User implements UserDetails {
     public User updateProfile(String nickname, String bio, String profileImage, String phoneNumber,
                               LocalDate birthDate, String location, List<String> interestedSportsList) {
 
-        String interestedSportsJson = null;
-        if (interestedSportsList != null && !interestedSportsList.isEmpty()) {
-            try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                interestedSportsJson = objectMapper.writeValueAsString(interestedSportsList);
-            } catch (JsonProcessingException e) {
-                log.warn("관심 스포츠 JSON 변환 실패 - userId: {}", id);
-                interestedSportsJson = this.interestedSports; // 기존 값 유지
-            }
-        }
-
         return User.builder()
                 .id(this.id)
                 .email(this.email)
@@ -168,7 +144,8 @@ public class User implements UserDetails {
                 .phoneNumber(phoneNumber != null ? phoneNumber : this.phoneNumber)
                 .birthDate(birthDate != null ? birthDate : this.birthDate)
                 .location(location != null ? location : this.location)
-                .interestedSports(interestedSportsJson != null ? interestedSportsJson : this.interestedSports)
+                .interestedSports(interestedSportsList != null && !interestedSportsList.isEmpty()
+                        ? List.copyOf(interestedSportsList) : this.interestedSports)
                 .socialId(this.socialId)
                 .socialType(this.socialType)
                 .socialProfileImage(this.socialProfileImage)
@@ -189,7 +166,7 @@ public class User implements UserDetails {
     // 소셜 사용자 생성을 위한 정적 메서드
     public static User createSocialUser(String email, String nickname, String socialId, SocialType socialType,
                                         String socialProfileImage, String phoneNumber, LocalDate birthDate,
-                                        String location, String interestedSports, String profileImage, String bio) {
+                                        String location, List<String> interestedSports, String profileImage, String bio) {
         return User.builder()
                 .email(email)
                 .nickname(nickname)
@@ -199,7 +176,7 @@ public class User implements UserDetails {
                 .phoneNumber(phoneNumber)
                 .birthDate(birthDate)
                 .location(location)
-                .interestedSports(interestedSports) // JSON 문자열
+                .interestedSports(interestedSports != null ? List.copyOf(interestedSports) : List.of())
                 .socialId(socialId)
                 .socialType(socialType)
                 .socialProfileImage(socialProfileImage) // 소셜에서 가져온 이미지
@@ -263,12 +240,7 @@ public class User implements UserDetails {
         }
 
         if (interestedSportsList != null) {
-            try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                this.interestedSports = objectMapper.writeValueAsString(interestedSportsList);
-            } catch (JsonProcessingException e) {
-                log.warn("관심 스포츠 JSON 변환 실패 - userId: {}", id);
-            }
+            this.interestedSports = List.copyOf(interestedSportsList);
         }
         this.updatedAt = LocalDateTime.now();
     }
@@ -0,0 +1,48 @@
+package com.ptpt.authservice.entity.user;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * users 테이블 unique 제약 이름과 위반된 제약 판별
+ */
+public final class UserConstraints {
+
+    public static final String EMAIL = "uk_users_email";
+    public static final String NICKNAME = "uk_users_nickname";
+    public static final String SOCIAL_ACCOUNT = "uk_users_social_account";
+
+    private static final List<String> ALL = List.of(EMAIL, NICKNAME, SOCIAL_ACCOUNT);
+
+    private UserConstraints() {
+    }
+
+    /**
+     * 위반된 users unique 제약 이름 (알 수 없으면 null)
+     * - MySQL 은 "users.uk_users_email", H2 는 "PUBLIC.UK_USERS_EMAIL_INDEX_4" 처럼 접두어/접미어가 붙으므로 포함 여부로 찾는다.
+     */
+    public static String violatedBy(DataIntegrityViolationException e) {
+        // 드라이버 메시지에는 중복된 값(사용자 입력)도 들어 있으므로 Hibernate 가 추출한 제약 이름을 먼저 본다
+        if (e.getCause() instanceof ConstraintViolationException violation) {
+            String constraint = find(violation.getConstraintName());
+            if (constraint != null) {
+                return constraint;
+            }
+        }
+        return find(e.getMostSpecificCause().getMessage());
+    }
+
+    private static String find(String source) {
+        if (source == null) {
+            return null;
+        }
+        String normalized = source.toLowerCase(Locale.ROOT);
+        return ALL.stream()
+                .filter(normalized::contains)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -1,22 +1,37 @@
 package com.ptpt.authservice.entity.user;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.ptpt.authservice.dto.User;
 import jakarta.persistence.*;
 import lombok.*;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Where;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 @Getter
+@Slf4j
 @Setter
 @Entity
-@Table(name = "users", indexes = {
-        @Index(name = "idx_user_email", columnList = "email"),
-        @Index(name = "idx_user_nickname", columnList = "nickname"),
-        @Index(name = "idx_user_social", columnList = "social_id, social_type"),
+// 가입 시 중복 확인 조회 없이 INSERT 하고 위반된 제약 이름으로 원인을 구분한다 (UserConstraints)
+// - unique 제약이 곧 조회 인덱스이므로 email / nickname / 소셜 정보에는 별도 인덱스를 두지 않는다.
+// - 닉네임 접두어 검색은 uk_users_nickname, 부분 일치는 ftx_users_nickname (sql/migration_users_nickname_fulltext.sql)
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = UserConstraints.EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = UserConstraints.NICKNAME, columnNames = "nickname"),
+        @UniqueConstraint(name = UserConstraints.SOCIAL_ACCOUNT, columnNames = {"social_id", "social_type"})
+}, indexes = {
         @Index(name = "idx_user_created_at", columnList = "created_at"),
-        @Index(name = "idx_user_last_login", columnList = "last_login_at")
+        @Index(name = "idx_user_last_login", columnList = "last_login_at"),
+        @Index(name = "idx_user_location", columnList = "location, id") // 지역 + 관심 스포츠 사용자 조회
 })
 @Where(clause = "deleted_at IS NULL") // 소프트 삭제 자동 필터링
 @Builder
@@ -26,18 +41,20 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(of = "id")
 public class UserEntity {
 
+    private static final ObjectReader LEGACY_SPORTS_READER = new ObjectMapper().readerFor(new TypeReference<List<String>>() {});
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
     @Column(name = "password")
     private String password; // 소셜 로그인 사용자는 null
 
-    @Column(name = "nickname", nullable = false, unique = true, length = 30)
+    @Column(name = "nickname", nullable = false, length = 30)
     private String nickname;
 
     @Column(name = "bio", length = 150)
@@ -56,8 +73,23 @@ public class UserEntity {
     @Column(name = "location", length = 100)
     private String location;
 
+    /**
+     * 관심 스포츠 (user_interested_sports 테이블, 선택 순서 유지)
+     * - (sport, user_id) 인덱스로 "스포츠별 사용자" 를 조회한다.
+     */
+    @ElementCollection
+    @CollectionTable(name = "user_interested_sports",
+            joinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_user_sports_sport_user", columnList = "sport, user_id"))
+    @OrderColumn(name = "sort_order")
+    @Column(name = "sport", length = 30, nullable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private List<String> interestedSports = new ArrayList<>();
+
+    // 이전 저장 형식 (JSON 배열 문자열). 읽을 때 한 번 변환하고, 다음 저장 때 user_interested_sports 로 옮긴 뒤 비운다.
     @Column(name = "interested_sports", columnDefinition = "TEXT")
-    private String interestedSports; // JSON 문자열
+    private String legacyInterestedSports;
 
     @Column(name = "social_profile_image", length = 500)
     private String socialProfileImage;
@@ -192,7 +224,7 @@ public class UserEntity {
                 .phoneNumber(phoneNumber)
                 .birthDate(birthDate)          // 추가
                 .location(location)            // 추가
-                .interestedSports(interestedSports)  // 추가
+                .interestedSports(loadInterestedSports())
                 .socialId(socialId)
                 .socialType(socialType)
                 .socialProfileImage(socialProfileImage)  // 추가
@@ -210,6 +242,26 @@ public class UserEntity {
                 .build();
     }
 
+    /**
+     * 관심 스포츠 목록 (아직 이관되지 않은 사용자는 이전 JSON 컬럼을 한 번 파싱)
+     */
+    private List<String> loadInterestedSports() {
+        if (!interestedSports.isEmpty() || legacyInterestedSports == null || legacyInterestedSports.isBlank()) {
+            return List.copyOf(interestedSports);
+        }
+        try {
+            return List.copyOf(LEGACY_SPORTS_READER.<List<String>>readValue(legacyInterestedSports));
+        } catch (IOException e) {
+            log.warn("관심 스포츠 JSON 파싱 실패 - userId: {}", id);
+            return List.of();
+        }
+    }
+
+    // 같은 스포츠가 두 번 저장되면 스포츠별 조회에서 사용자가 중복되므로 저장 전에 제거
+    private static List<String> distinctSports(List<String> sports) {
+        return sports == null ? new ArrayList<>() : new ArrayList<>(new LinkedHashSet<>(sports));
+    }
+
     /**
      * Domain 객체로부터 Entity 생성
      */
@@ -224,7 +276,7 @@ public class UserEntity {
                 .phoneNumber(user.getPhoneNumber())
                 .birthDate(user.getBirthDate())        // 추가
                 .location(user.getLocation())          // 추가
-                .interestedSports(user.getInterestedSports())  // 추가
+                .interestedSports(distinctSports(user.getInterestedSports()))
                 .socialId(user.getSocialId())
                 .socialType(user.getSocialType())
                 .socialProfileImage(user.getSocialProfileImage())  // 추가
@@ -285,8 +337,11 @@ public class UserEntity {
             this.location = user.getLocation();
         }
 
-        if (user.getInterestedSports() != null) {
-            this.interestedSports = user.getInterestedSports();
+        if (user.getInterestedSports() != null
+                && (legacyInterestedSports != null || !interestedSports.equals(user.getInterestedSports()))) {
+            interestedSports.clear();
+            interestedSports.addAll(distinctSports(user.getInterestedSports()));
+            legacyInterestedSports = null;
         }
 
         if (user.getSocialProfileImage() != null) {
@@ -9,6 +9,7 @@ public enum ApiResponseCode {
     // 인증 관련 성공 코드
     AUTH_LOGIN_SUCCESS("S0101", "로그인이 성공적으로 완료되었습니다."),
     AUTH_REFRESH_SUCCESS("S0102", "토큰이 성공적으로 갱신되었습니다."),
+    AUTH_INTROSPECT_SUCCESS("S0103", "토큰 검증이 완료되었습니다."),
 
     // 인증 관련 실패 코드
     AUTH_LOGIN_FAILED("E0101", "로그인에 실패했습니다."),
@@ -50,12 +51,19 @@ public enum ApiResponseCode {
     AUTH_SOCIAL_PLATFORM_ERROR("E0117", "소셜 플랫폼과의 통신 중 오류가 발생했습니다."),
     AUTH_SOCIAL_TEMP_TOKEN_EXPIRED("E0118", "임시 토큰이 만료되었습니다."),
     AUTH_SOCIAL_TEMP_TOKEN_INVALID("E0119", "유효하지 않은 임시 토큰입니다."),
+    AUTH_LOGIN_THROTTLED("E0120", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 사용자 관련 실패 코드
     USER_CREATE_FAILED("E0203", "사용자 생성에 실패했습니다."),
     USER_READ_FAILED("E0204", "사용자 정보 조회에 실패했습니다."),
     USER_UPDATE_FAILED("E0205", "사용자 정보 업데이트에 실패했습니다."),
-    USER_DELETE_FAILED("E0206", "사용자 삭제에 실패했습니다.");
+    USER_DELETE_FAILED("E0206", "사용자 삭제에 실패했습니다."),
+
+    // 서버 관련 실패 코드
+    SERVER_BUSY("E0301", "요청이 많아 잠시 후 다시 시도해주세요."),
+
+    // 요청 관련 실패 코드
+    REQUEST_INVALID("E0501", "요청 형식이 올바르지 않습니다.");
 
     private final String code;
     private final String defaultMessage;
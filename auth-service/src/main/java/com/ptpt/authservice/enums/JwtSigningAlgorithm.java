@@ -0,0 +1,58 @@
+package com.ptpt.authservice.enums;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import java.security.KeyPair;
+
+/**
+ * 토큰 서명 알고리즘
+ * - HS256 은 jwt.secret 하나로 서명/검증하는 기존 방식 (kid 없음, JWKS 로 공개하지 않음)
+ * - 나머지는 비대칭 키로 서명하고 공개키를 /.well-known/jwks.json 으로 공개한다.
+ */
+public enum JwtSigningAlgorithm {
+    HS256(null),
+    RS256("RSA"),
+    ES256("EC"),
+    EdDSA("Ed25519");
+
+    /** 비대칭 키의 KeyFactory 알고리즘 이름 (HS256 은 null) */
+    private final String keyFactoryAlgorithm;
+
+    JwtSigningAlgorithm(String keyFactoryAlgorithm) {
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+    }
+
+    public boolean isAsymmetric() {
+        return keyFactoryAlgorithm != null;
+    }
+
+    public String getKeyFactoryAlgorithm() {
+        return keyFactoryAlgorithm;
+    }
+
+    /**
+     * jjwt 서명 알고리즘
+     */
+    public SecureDigestAlgorithm<?, ?> getJwa() {
+        return switch (this) {
+            case HS256 -> Jwts.SIG.HS256;
+            case RS256 -> Jwts.SIG.RS256;
+            case ES256 -> Jwts.SIG.ES256;
+            case EdDSA -> Jwts.SIG.EdDSA;
+        };
+    }
+
+    /**
+     * 새 서명 키 쌍 생성 (RS256 2048bit / ES256 P-256 / EdDSA Ed25519)
+     */
+    public KeyPair generateKeyPair() {
+        return switch (this) {
+            case RS256 -> Jwts.SIG.RS256.keyPair().build();
+            case ES256 -> Jwts.SIG.ES256.keyPair().build();
+            case EdDSA -> Jwks.CRV.Ed25519.keyPair().build();
+            case HS256 -> throw new IllegalStateException("HS256 은 키 쌍을 생성하지 않습니다.");
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.ptpt.authservice.enums;
+
+/**
+ * 닉네임 검색 방식
+ */
+public enum NicknameSearchMode {
+    /**
+     * 접두어 일치 (자동완성) - uk_users_nickname 범위 스캔, 닉네임 사전순
+     */
+    PREFIX,
+    /**
+     * 부분 일치 - n-gram 전문 인덱스(ftx_users_nickname), id 내림차순
+     */
+    CONTAINS
+}
@@ -0,0 +1,21 @@
+package com.ptpt.authservice.enums;
+
+public enum TokenType {
+    ACCESS,
+    REFRESH,
+    TEMP;
+
+    /**
+     * tokenType 클레임 값을 변환 (알 수 없는 값이면 null)
+     */
+    public static TokenType fromClaim(Object claim) {
+        if (claim == null) {
+            return null;
+        }
+        try {
+            return TokenType.valueOf(claim.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ptpt.authservice.exception.auth;
+
+import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.exception.AuthServiceException;
+import lombok.Getter;
+
+@Getter
+public class LoginThrottledException extends AuthServiceException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super(ApiResponseCode.AUTH_LOGIN_THROTTLED);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public LoginThrottledException(String customMessage, long retryAfterSeconds) {
+        super(ApiResponseCode.AUTH_LOGIN_THROTTLED, customMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -3,8 +3,12 @@ package com.ptpt.authservice.exception.handler;
 import com.ptpt.authservice.controller.response.CustomApiResponse;
 import com.ptpt.authservice.enums.ApiResponseCode;
 import com.ptpt.authservice.exception.AuthServiceException;
+import com.ptpt.authservice.exception.auth.LoginThrottledException;
 import com.ptpt.authservice.exception.social.SocialPlatformException;
 import com.ptpt.authservice.exception.social.SocialTokenInvalidException;
+import com.ptpt.authservice.util.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -19,8 +23,11 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 //        UserController.class
 //})
 @RestControllerAdvice(basePackages = {"com.ptpt.authservice.controller"})
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final AuthMetrics authMetrics;
+
     // 커스텀 Auth 예외 처리 (Enum 기반)
     @ExceptionHandler(AuthServiceException.class)
     public ResponseEntity<CustomApiResponse<Void>> handleAuthServiceException(AuthServiceException ex) {
@@ -37,15 +44,28 @@ public class GlobalExceptionHandler {
         }
 
         HttpStatus status = determineHttpStatusFromCode(ex.getResponseCode().getCode());
+        authMetrics.countResponse(response.getCode(), status.value());
         return new ResponseEntity<>(response, status);
     }
 
+    // 로그인 시도 제한 (429 + Retry-After)
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<CustomApiResponse<Void>> handleLoginThrottledException(LoginThrottledException ex) {
+        CustomApiResponse<Void> response = CustomApiResponse.of(ex.getResponseCode(), null);
+
+        authMetrics.countResponse(response.getCode(), HttpStatus.TOO_MANY_REQUESTS.value());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     // Spring Security 예외 처리 (컨트롤러 레벨에서 발생하는 경우)
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<CustomApiResponse<Void>> handleAuthenticationException(AuthenticationException ex) {
         ApiResponseCode responseCode = determineAuthResponseCode(ex);
         CustomApiResponse<Void> response = CustomApiResponse.of(responseCode, null);
 
+        authMetrics.countResponse(response.getCode(), HttpStatus.UNAUTHORIZED.value());
         return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
     }
 
@@ -66,6 +86,7 @@ public class GlobalExceptionHandler {
         HttpStatus status = ex.getResponseCode().getCode().equals("E0113") ?
                 HttpStatus.UNAUTHORIZED : HttpStatus.BAD_REQUEST;
 
+        authMetrics.countResponse(response.getCode(), status.value());
         return new ResponseEntity<>(response, status);
     }
 
@@ -79,6 +100,7 @@ public class GlobalExceptionHandler {
                 .data(null)
                 .build();
 
+        authMetrics.countResponse(response.getCode(), HttpStatus.INTERNAL_SERVER_ERROR.value());
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -104,6 +126,10 @@ public class GlobalExceptionHandler {
                 return HttpStatus.CONFLICT;
             }
             return HttpStatus.BAD_REQUEST;
+        } else if (errorCode.startsWith("E03")) { // 서버 과부하
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        } else if (errorCode.startsWith("E05")) { // 요청 형식
+            return HttpStatus.BAD_REQUEST;
         }
         return HttpStatus.BAD_REQUEST;
     }
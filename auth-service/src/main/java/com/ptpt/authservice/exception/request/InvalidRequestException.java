@@ -0,0 +1,14 @@
+package com.ptpt.authservice.exception.request;
+
+import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.exception.AuthServiceException;
+
+public class InvalidRequestException extends AuthServiceException {
+    public InvalidRequestException() {
+        super(ApiResponseCode.REQUEST_INVALID);
+    }
+
+    public InvalidRequestException(String customMessage) {
+        super(ApiResponseCode.REQUEST_INVALID, customMessage);
+    }
+}
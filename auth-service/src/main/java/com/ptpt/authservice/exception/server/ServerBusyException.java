@@ -0,0 +1,14 @@
+package com.ptpt.authservice.exception.server;
+
+import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.exception.AuthServiceException;
+
+public class ServerBusyException extends AuthServiceException {
+    public ServerBusyException() {
+        super(ApiResponseCode.SERVER_BUSY);
+    }
+
+    public ServerBusyException(String customMessage) {
+        super(ApiResponseCode.SERVER_BUSY, customMessage);
+    }
+}
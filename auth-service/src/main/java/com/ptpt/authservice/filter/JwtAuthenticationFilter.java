@@ -1,12 +1,16 @@
 package com.ptpt.authservice.filter;
 
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.exception.token.InvalidTokenException;
 import com.ptpt.authservice.util.JwtUtil;
+import com.ptpt.authservice.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +20,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -24,6 +29,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
 
+    /** 토큰 클레임만으로 인증 주체를 구성할지 여부 (DB 조회 생략) */
+    @Value("${jwt.claims-auth.enabled:false}")
+    private boolean claimsAuthEnabled;
+
+    /** 클레임 인증을 허용할 최소 토큰 버전 (이보다 오래된 토큰은 DB 조회) */
+    @Value("${jwt.claims-auth.min-token-version:1}")
+    private int claimsAuthMinTokenVersion;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -40,17 +53,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void authenticateWithToken(String token) {
-        if (jwtUtil.validateToken(token)) {
-            String email = jwtUtil.extractEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        VerifiedToken verifiedToken = jwtUtil.verify(token);
+        // 리프레시 / 임시 토큰으로는 API 를 호출할 수 없다 (사용자 조회 전에 거부)
+        if (!verifiedToken.isAccessToken()) {
+            throw new InvalidTokenException("액세스 토큰이 아닙니다.");
+        }
+        UserDetails userDetails = resolveUserDetails(verifiedToken);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                );
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private UserDetails resolveUserDetails(VerifiedToken verifiedToken) {
+        if (claimsAuthEnabled) {
+            Optional<User> principal = verifiedToken.toPrincipal(claimsAuthMinTokenVersion);
+            if (principal.isPresent()) {
+                return principal.get();
+            }
+            log.debug("클레임 인증 불가 토큰 - DB 조회로 대체");
         }
+
+        return userDetailsService.loadUserByUsername(verifiedToken.getSubject());
     }
 
     private String parseJwt(HttpServletRequest request) {
@@ -64,7 +91,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
-        log.info("path: {}", path);
 
         return path.startsWith("/auth/") ||
                 path.startsWith("/social/") ||
@@ -4,14 +4,14 @@ import com.ptpt.authservice.controller.request.UserUpdateRequestBody;
 import com.ptpt.authservice.dto.User;
 import com.ptpt.authservice.entity.user.UserEntity;
 import com.ptpt.authservice.exception.auth.InvalidAuthException;
+import com.ptpt.authservice.repository.user.UserCache;
 import com.ptpt.authservice.repository.user.UserJpaRepository;
+import com.ptpt.authservice.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.support.TransactionOperations;
 
-import java.util.Optional;
-
 // user 와 otp repository 를 같이 불러서 사용하는 repository class 생성
 // service level 에서는 이 repository 만 바라보면 된다.
 
@@ -21,6 +21,8 @@ import java.util.Optional;
 public class AuthRepository {
 
     private final UserJpaRepository userJpaRepository;
+    private final UserCache userCache;
+    private final UserRepository userRepository;
 
 //    transaction 관리가 필요하기 때문에 의존성 주입이 필요함
     private final TransactionOperations readTransactionOperations;
@@ -31,18 +33,9 @@ public class AuthRepository {
 //    이 로직이면 service 에 Entity 객체가 넘어가기 때문에 domain 객체를 나눠주면 좋다.
 //    경계 분리!
 //    public UserEntity createNewUser(UserEntity user) {
+//    중복 확인 조회 없이 INSERT 한 번으로 저장 (중복은 unique 제약 위반을 UserRepository 가 예외로 바꿔 준다)
     public User createNewUser(User user) {
-        return writeTransactionOperations.execute(status -> {
-            Optional<UserEntity> userEntityOptional = userJpaRepository.findUserEntityByEmail(user.getEmail());
-
-            if (userEntityOptional.isPresent()) {
-                throw new RuntimeException(String.format("User [%s] already exists.", user.getEmail()));
-            }
-
-            UserEntity userEntity = userJpaRepository.save(user.toEntity());
-
-            return  userEntity.toDomain();
-        });
+        return userRepository.save(user);
     }
 
 //    조회만 하는 것이기 때문에 read transaction 만 사용
@@ -71,6 +64,7 @@ public class AuthRepository {
 
             // 변경된 엔티티 저장
             UserEntity updatedEntity = userJpaRepository.save(userEntity);
+            userCache.evict(updatedEntity.getId(), email);
             return updatedEntity.toDomain();
         });
     }
@@ -0,0 +1,101 @@
+package com.ptpt.authservice.repository.token;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 단일 인스턴스용 폐기 토큰 저장소
+ * - 조회는 ConcurrentHashMap.get 으로 락 없이 처리하고, 만료된 항목은 주기적으로 정리한다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    // fingerprint -> 토큰 만료 시각(epoch millis)
+    private final ConcurrentHashMap<TokenFingerprint, Long> revoked = new ConcurrentHashMap<>();
+    private final Duration sweepInterval;
+
+    private ScheduledExecutorService sweeper;
+
+    public InMemoryTokenRevocationStore(@Value("${jwt.revocation.sweep-interval:1m}") Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::removeExpired,
+                sweepInterval.toMillis(), sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean revoke(TokenFingerprint fingerprint, Instant expiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= now) {
+            // 이미 만료된 토큰은 검증 단계에서 거부되므로 보관할 필요가 없다
+            return true;
+        }
+
+        Long previous = revoked.putIfAbsent(fingerprint, expiresAtMillis);
+        if (previous == null) {
+            return true;
+        }
+        if (previous > now) {
+            return false;
+        }
+        // 정리 전인 만료 항목이 남아 있는 경우
+        return revoked.replace(fingerprint, previous, expiresAtMillis);
+    }
+
+    @Override
+    public boolean isRevoked(TokenFingerprint fingerprint) {
+        Long expiresAtMillis = revoked.get(fingerprint);
+        return expiresAtMillis != null && expiresAtMillis > System.currentTimeMillis();
+    }
+
+    @Override
+    public void forEachRevokedSince(Instant since, BiConsumer<TokenFingerprint, Instant> consumer) {
+        long now = System.currentTimeMillis();
+        revoked.forEach((fingerprint, expiresAtMillis) -> {
+            if (expiresAtMillis > now) {
+                consumer.accept(fingerprint, Instant.ofEpochMilli(expiresAtMillis));
+            }
+        });
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    void removeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+        log.debug("만료된 폐기 토큰 정리 - before: {}, after: {}", before, revoked.size());
+    }
+}
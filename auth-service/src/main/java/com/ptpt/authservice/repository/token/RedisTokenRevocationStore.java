@@ -0,0 +1,154 @@
+package com.ptpt.authservice.repository.token;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * 여러 인스턴스가 공유하는 Redis 폐기 토큰 저장소
+ * - 키 TTL 을 토큰의 남은 만료 시간으로 두어 만료된 항목은 Redis 가 정리한다.
+ * - 폐기 이력은 sorted set(score = 폐기 시각)에도 남기고 채널로 알려, 각 인스턴스의 앞단 필터가 따라올 수 있게 한다.
+ * - pub/sub 은 연결이 끊긴 동안의 메시지를 버리므로, 채널을 (재)구독할 때마다 onSubscribed 로 알려 이력을 다시 읽게 한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.revocation.store", havingValue = "redis")
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    private static final String KEY_PREFIX = "revoked-token:";
+    private static final String LOG_KEY = "revoked-token-log";
+    private static final String CHANNEL = "revoked-token-events";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+
+    @Value("${jwt.refresh-token-expiration}")
+    private long refreshTokenExpiration;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public boolean revoke(TokenFingerprint fingerprint, Instant expiresAt) {
+        Instant now = Instant.now();
+        Duration ttl = Duration.between(now, expiresAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return true;
+        }
+        // SET NX PX: 이미 폐기된 토큰이면 false
+        Boolean created = redisTemplate.opsForValue().setIfAbsent(key(fingerprint), "1", ttl);
+        if (!Boolean.TRUE.equals(created)) {
+            return false;
+        }
+
+        String event = toEvent(fingerprint, expiresAt);
+        redisTemplate.opsForZSet().add(LOG_KEY, event, now.toEpochMilli());
+        redisTemplate.convertAndSend(CHANNEL, event);
+        trimLogOccasionally(now);
+        return true;
+    }
+
+    @Override
+    public boolean isRevoked(TokenFingerprint fingerprint) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(fingerprint)));
+    }
+
+    @Override
+    public void forEachRevokedSince(Instant since, BiConsumer<TokenFingerprint, Instant> consumer) {
+        Set<String> events = redisTemplate.opsForZSet()
+                .rangeByScore(LOG_KEY, since.toEpochMilli(), Double.POSITIVE_INFINITY);
+        if (events == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (String event : events) {
+            acceptEvent(event, now, consumer);
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<TokenFingerprint, Instant> listener, Runnable onSubscribed) {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.addMessageListener(new RevocationEventListener(listener, onSubscribed), new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    private void trimLogOccasionally(Instant now) {
+        // 폐기 이력은 토큰 최대 수명이 지나면 의미가 없으므로 가끔 정리한다
+        if (ThreadLocalRandom.current().nextInt(1000) == 0) {
+            redisTemplate.opsForZSet().removeRangeByScore(LOG_KEY, 0, now.toEpochMilli() - refreshTokenExpiration);
+        }
+    }
+
+    private void acceptEvent(String event, long now, BiConsumer<TokenFingerprint, Instant> consumer) {
+        try {
+            int separator = event.indexOf(':');
+            String hex = event.substring(0, separator);
+            long expiresAtMillis = Long.parseLong(event.substring(separator + 1));
+            if (expiresAtMillis > now) {
+                consumer.accept(TokenFingerprint.fromHex(hex), Instant.ofEpochMilli(expiresAtMillis));
+            }
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 이벤트 - event: {}", event);
+        }
+    }
+
+    /**
+     * 폐기 알림 수신 + 구독 시점 통지 (컨테이너는 재연결 후 다시 구독할 때도 onChannelSubscribed 를 호출한다)
+     */
+    @RequiredArgsConstructor
+    private class RevocationEventListener implements MessageListener, SubscriptionListener {
+
+        private final BiConsumer<TokenFingerprint, Instant> listener;
+        private final Runnable onSubscribed;
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            acceptEvent(new String(message.getBody(), StandardCharsets.UTF_8), System.currentTimeMillis(), listener);
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            onSubscribed.run();
+        }
+    }
+
+    private String toEvent(TokenFingerprint fingerprint, Instant expiresAt) {
+        return fingerprint.toHex() + ":" + expiresAt.toEpochMilli();
+    }
+
+    private String key(TokenFingerprint fingerprint) {
+        return KEY_PREFIX + fingerprint.toHex();
+    }
+}
@@ -0,0 +1,241 @@
+package com.ptpt.authservice.repository.token;
+
+import com.ptpt.authservice.util.RotatingBloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 폐기 토큰 저장소 앞단의 Bloom filter
+ * - "폐기되지 않음" 응답은 저장소 조회 없이 바로 돌려주고, "있을 수 있음"일 때만 저장소를 조회한다.
+ * - 기동 직후 저장소 내용을 모두 반영하기 전(ready 전)에는 항상 저장소를 조회한다.
+ * - 공유 저장소는 알림이 유실될 수 있으므로 (재)구독 시와 catch-up-interval 마다 마지막 동기화 이후 이력을 다시 반영한다.
+ */
+@Slf4j
+@Component
+public class RevokedTokenFilter {
+
+    private static final Duration CATCH_UP_SKEW = Duration.ofMinutes(1);
+
+    private final TokenRevocationStore tokenRevocationStore;
+    private final boolean enabled;
+    private final Path snapshotPath;
+    private final Duration snapshotInterval;
+    private final Duration catchUpInterval;
+    private final RotatingBloomFilter filter;
+
+    private final LongAdder filterNegatives = new LongAdder();
+    private final LongAdder storeLookups = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile boolean ready;
+    private Instant lastSync = Instant.EPOCH; // scheduler 스레드에서만 갱신
+    private ScheduledExecutorService scheduler;
+
+    public RevokedTokenFilter(TokenRevocationStore tokenRevocationStore,
+                              @Value("${jwt.revocation.bloom.enabled:false}") boolean enabled,
+                              @Value("${jwt.revocation.bloom.expected-insertions-per-slice:100000}") long expectedInsertionsPerSlice,
+                              @Value("${jwt.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+                              @Value("${jwt.revocation.bloom.slices:8}") int slices,
+                              @Value("${jwt.revocation.bloom.snapshot-path:}") String snapshotPath,
+                              @Value("${jwt.revocation.bloom.snapshot-interval:5m}") Duration snapshotInterval,
+                              @Value("${jwt.revocation.bloom.catch-up-interval:30s}") Duration catchUpInterval,
+                              @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.enabled = enabled;
+        this.snapshotPath = StringUtils.hasText(snapshotPath) ? Path.of(snapshotPath) : null;
+        this.snapshotInterval = snapshotInterval;
+        this.catchUpInterval = catchUpInterval;
+        // 구간별 오탐률이 합쳐지므로 구간 수로 나눠 전체 오탐률을 맞춘다
+        this.filter = new RotatingBloomFilter(refreshTokenExpiration, slices,
+                expectedInsertionsPerSlice, falsePositiveRate / slices);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        lastSync = restoreSnapshot();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revoked-token-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 구독을 먼저 시작해야 따라잡는 동안 폐기된 토큰을 놓치지 않는다
+        tokenRevocationStore.subscribe(this::add, this::requestCatchUp);
+        scheduler.execute(this::catchUp);
+
+        if (tokenRevocationStore.isShared()) {
+            scheduler.scheduleWithFixedDelay(this::catchUp,
+                    catchUpInterval.toMillis(), catchUpInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        if (snapshotPath != null) {
+            scheduler.scheduleWithFixedDelay(this::writeSnapshot,
+                    snapshotInterval.toMillis(), snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (ready) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * 폐기 토큰을 필터에 반영 (저장소에 쓰기 전에 호출해야 한다)
+     */
+    public void add(TokenFingerprint fingerprint, Instant expiresAt) {
+        if (enabled) {
+            filter.put(fingerprint.high(), fingerprint.low(), expiresAt.toEpochMilli());
+        }
+    }
+
+    /**
+     * false 면 확실히 폐기되지 않은 토큰, true 면 저장소 확인이 필요한 토큰
+     */
+    public boolean mightBeRevoked(TokenFingerprint fingerprint) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        if (!filter.mightContain(fingerprint.high(), fingerprint.low())) {
+            filterNegatives.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 필터가 "있을 수 있음"이라 저장소를 조회한 결과 기록
+     */
+    public void recordStoreLookup(boolean revoked) {
+        storeLookups.increment();
+        if (enabled && ready && !revoked) {
+            falsePositives.increment();
+        }
+    }
+
+    public Stats stats() {
+        return Stats.builder()
+                .enabled(enabled)
+                .ready(ready)
+                .filterNegatives(filterNegatives.sum())
+                .storeLookups(storeLookups.sum())
+                .falsePositives(falsePositives.sum())
+                .expectedFalsePositiveRate(enabled ? filter.expectedFalsePositiveRate() : 0)
+                .build();
+    }
+
+    private void requestCatchUp() {
+        if (scheduler != null && !scheduler.isShutdown()) {
+            scheduler.execute(this::catchUp);
+        }
+    }
+
+    /**
+     * 마지막 동기화 이후 폐기 이력 반영. 다른 인스턴스와의 시계 차이 / 이력 기록 지연을 감안해 조금 겹쳐 읽는다.
+     */
+    private void catchUp() {
+        Instant since = lastSync;
+        Instant startedAt = Instant.now();
+        try {
+            tokenRevocationStore.forEachRevokedSince(since, this::add);
+            lastSync = startedAt.minus(CATCH_UP_SKEW);
+            if (!ready) {
+                ready = true;
+                log.info("폐기 토큰 필터 준비 완료 - since: {}", since);
+            }
+        } catch (Exception e) {
+            if (ready) {
+                log.warn("폐기 토큰 필터 따라잡기 실패 - since: {}", since, e);
+            } else {
+                log.error("폐기 토큰 필터 초기화 실패 - 저장소 조회로 동작합니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 복원. 복원했다면 스냅샷 저장 시각 이후부터, 아니면 처음부터 따라잡는다.
+     */
+    private Instant restoreSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return Instant.EPOCH;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            Instant savedAt = Instant.ofEpochMilli(in.readLong());
+            if (!filter.restoreFrom(in)) {
+                log.warn("폐기 토큰 필터 스냅샷 설정이 달라 무시합니다 - path: {}", snapshotPath);
+                return Instant.EPOCH;
+            }
+            log.info("폐기 토큰 필터 스냅샷 복원 - savedAt: {}", savedAt);
+            return savedAt.minus(CATCH_UP_SKEW);
+        } catch (IOException e) {
+            log.warn("폐기 토큰 필터 스냅샷 복원 실패 - path: {}", snapshotPath, e);
+            return Instant.EPOCH;
+        }
+    }
+
+    private void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            out.writeLong(System.currentTimeMillis());
+            filter.writeTo(out);
+        } catch (IOException e) {
+            log.warn("폐기 토큰 필터 스냅샷 저장 실패 - path: {}", tempPath, e);
+            return;
+        }
+
+        try {
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("폐기 토큰 필터 스냅샷 교체 실패 - path: {}", snapshotPath, e);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private boolean enabled;
+        private boolean ready;
+        private long filterNegatives;
+        private long storeLookups;
+        private long falsePositives;
+        private double expectedFalsePositiveRate;
+    }
+}
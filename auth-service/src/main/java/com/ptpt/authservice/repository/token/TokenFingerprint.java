@@ -0,0 +1,46 @@
+package com.ptpt.authservice.repository.token;
+
+import com.ptpt.authservice.util.VerifiedToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 폐기 저장소에 보관하는 토큰 식별값 (SHA-256 앞 128bit)
+ * - jti 가 있으면 jti 로, 없으면(이전 버전 토큰) 토큰 문자열 전체로 만든다.
+ */
+public record TokenFingerprint(long high, long low) {
+
+    public static TokenFingerprint of(VerifiedToken verifiedToken) {
+        String source = verifiedToken.getId() != null
+                ? "jti:" + verifiedToken.getId()
+                : "token:" + verifiedToken.getToken();
+        return of(source);
+    }
+
+    static TokenFingerprint of(String source) {
+        ByteBuffer digest = ByteBuffer.wrap(sha256(source.getBytes(StandardCharsets.UTF_8)));
+        return new TokenFingerprint(digest.getLong(), digest.getLong());
+    }
+
+    public static TokenFingerprint fromHex(String hex) {
+        if (hex.length() != 32) {
+            throw new IllegalArgumentException("fingerprint 길이가 올바르지 않습니다: " + hex);
+        }
+        return new TokenFingerprint(Long.parseUnsignedLong(hex, 0, 16, 16), Long.parseUnsignedLong(hex, 16, 32, 16));
+    }
+
+    public String toHex() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ptpt.authservice.repository.token;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+/**
+ * 폐기된 토큰 저장소
+ * - 항목은 토큰 자체의 만료 시각(expiresAt)이 지나면 사라진다.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * 토큰 폐기 등록
+     * @return 새로 폐기했으면 true, 이미 폐기되어 있던 토큰이면 false
+     */
+    boolean revoke(TokenFingerprint fingerprint, Instant expiresAt);
+
+    /**
+     * 폐기된 토큰인지 확인
+     */
+    boolean isRevoked(TokenFingerprint fingerprint);
+
+    /**
+     * since 이후에 폐기된(아직 만료되지 않은) 토큰 목록 전달 - 앞단 필터를 기동 시 채우고, 유실된 알림을 보충하는 용도
+     */
+    default void forEachRevokedSince(Instant since, BiConsumer<TokenFingerprint, Instant> consumer) {
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기된 토큰 알림 구독 (공유 저장소만 해당)
+     * - 알림은 유실될 수 있으므로, (재)구독될 때마다 onSubscribed 를 호출해 구독이 끊긴 동안의 폐기 이력을 다시 읽게 한다.
+     */
+    default void subscribe(BiConsumer<TokenFingerprint, Instant> listener, Runnable onSubscribed) {
+    }
+
+    /**
+     * 여러 인스턴스가 함께 쓰는 저장소인지 여부 (true 면 다른 인스턴스의 폐기가 이 인스턴스의 add 를 거치지 않는다)
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
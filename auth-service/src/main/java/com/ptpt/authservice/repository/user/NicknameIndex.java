@@ -0,0 +1,333 @@
+package com.ptpt.authservice.repository.user;
+
+import com.ptpt.authservice.util.BloomFilter;
+import com.ptpt.authservice.util.SortedStringSet;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메모리 닉네임 색인 (닉네임 중복 확인 / 사용 가능 여부 조회용)
+ * - 전체 닉네임을 정렬된 바이트 배열(SortedStringSet)로 보관하고, 그 뒤에 생긴 변경은 added / removed 에 쌓는다.
+ * - 앞단의 Bloom filter 가 "없음"이라고 하면 정렬 배열도 보지 않는다.
+ * - 이 인스턴스의 쓰기는 커밋 직후 반영하고, 다른 인스턴스의 가입은 refresh-interval 마다 id 순으로 따라잡는다.
+ *   다른 인스턴스의 닉네임 변경 / 탈퇴는 rebuild-interval 마다 전체를 다시 읽을 때 반영된다.
+ * - 색인은 힌트일 뿐이며, 최종 판단은 닉네임 unique 제약이 한다.
+ */
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final UserJpaRepository userJpaRepository;
+    private final boolean enabled;
+    private final long expectedNicknames;
+    private final double falsePositiveRate;
+    private final Duration refreshInterval;
+    private final Duration rebuildInterval;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder bloomNegatives = new LongAdder();
+
+    private volatile Snapshot snapshot; // 첫 적재 전에는 null
+    private volatile Queue<NicknameChange> rebuildJournal; // 재구성 중에만 존재
+    private volatile long lastSeenId;
+    private ScheduledExecutorService scheduler;
+
+    public NicknameIndex(UserJpaRepository userJpaRepository,
+                         @Value("${nickname-index.enabled:true}") boolean enabled,
+                         @Value("${nickname-index.expected-nicknames:1000000}") long expectedNicknames,
+                         @Value("${nickname-index.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${nickname-index.refresh-interval:5s}") Duration refreshInterval,
+                         @Value("${nickname-index.rebuild-interval:10m}") Duration rebuildInterval) {
+        this.userJpaRepository = userJpaRepository;
+        this.enabled = enabled;
+        this.expectedNicknames = expectedNicknames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshInterval = refreshInterval;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "nickname-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // 스레드가 하나이므로 적재 / 따라잡기 / 재구성은 겹치지 않는다
+        scheduler.execute(this::rebuild);
+        scheduler.scheduleWithFixedDelay(this::refresh,
+                refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::rebuild,
+                rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 첫 적재가 끝났는지 여부 (false 면 DB 로 확인해야 한다)
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 색인에 닉네임이 있는지 확인 (대소문자 구분 없음, isReady() 가 true 일 때만 의미가 있다)
+     */
+    public boolean contains(String nickname) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return false;
+        }
+
+        lookups.increment();
+        String key = normalize(nickname);
+        if (!current.bloom.mightContain(hash(key, 0), hash(key, 1))) {
+            bloomNegatives.increment();
+            return false;
+        }
+        return current.contains(key);
+    }
+
+    /**
+     * 사용자 저장 후 호출 - 트랜잭션 안이면 커밋된 뒤에 반영한다 (신규 가입이면 previousNickname 은 null)
+     */
+    public void onNicknameSaved(String previousNickname, String nickname) {
+        if (previousNickname != null && normalize(previousNickname).equals(normalize(nickname))) {
+            return;
+        }
+        afterCommit(new NicknameChange(previousNickname, nickname));
+    }
+
+    /**
+     * 사용자 삭제 후 호출
+     */
+    public void onNicknameRemoved(String nickname) {
+        afterCommit(new NicknameChange(nickname, null));
+    }
+
+    public Stats stats() {
+        Snapshot current = snapshot;
+        return Stats.builder()
+                .enabled(enabled)
+                .ready(current != null)
+                .size(current != null ? current.base.size() + current.added.size() - current.removed.size() : 0)
+                .sizeInBytes(current != null ? current.base.sizeInBytes() + current.bloom.bitCount() / 8 : 0)
+                .lookups(lookups.sum())
+                .bloomNegatives(bloomNegatives.sum())
+                .expectedFalsePositiveRate(current != null ? current.bloom.expectedFalsePositiveRate() : 0)
+                .build();
+    }
+
+    private void afterCommit(NicknameChange change) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(NicknameChange change) {
+        // 재구성 중이면 먼저 기록해 둔다 (교체된 새 색인에 다시 적용)
+        Queue<NicknameChange> journal = rebuildJournal;
+        if (journal != null) {
+            journal.add(change);
+        }
+        Snapshot current = snapshot;
+        if (current != null) {
+            change.applyTo(current);
+        }
+    }
+
+    /**
+     * 전체 닉네임을 id 순으로 나눠 읽어 새 색인을 만들고 교체한다.
+     */
+    private void rebuild() {
+        Queue<NicknameChange> journal = new ConcurrentLinkedQueue<>();
+        rebuildJournal = journal;
+        try {
+            long startedAt = System.nanoTime();
+            List<String> nicknames = new ArrayList<>();
+            long maxId = loadAfter(0, (id, nickname) -> nicknames.add(normalize(nickname)));
+
+            // 다음 재구성까지 늘어날 가입자를 감안해 Bloom filter 를 넉넉히 잡는다
+            Snapshot rebuilt = Snapshot.of(nicknames, Math.max(expectedNicknames, nicknames.size() * 2L), falsePositiveRate);
+            snapshot = rebuilt;
+            lastSeenId = maxId;
+
+            NicknameChange change;
+            while ((change = journal.poll()) != null) {
+                change.applyTo(rebuilt);
+            }
+
+            log.info("닉네임 색인 재구성 완료 - size: {}, bytes: {}, elapsedMs: {}", rebuilt.base.size(),
+                    rebuilt.base.sizeInBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (Exception e) {
+            log.error("닉네임 색인 재구성 실패 - 이전 색인(없으면 DB 조회)으로 동작합니다.", e);
+        } finally {
+            rebuildJournal = null;
+        }
+    }
+
+    /**
+     * 마지막으로 본 id 이후에 가입한 사용자 반영 (다른 인스턴스의 가입)
+     */
+    private void refresh() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        try {
+            lastSeenId = loadAfter(lastSeenId, (id, nickname) -> current.add(normalize(nickname)));
+        } catch (Exception e) {
+            log.warn("닉네임 색인 갱신 실패 - lastSeenId: {}", lastSeenId, e);
+        }
+    }
+
+    private long loadAfter(long afterId, NicknameConsumer consumer) {
+        long lastId = afterId;
+        while (true) {
+            List<Object[]> rows = userJpaRepository.findNicknamesAfter(lastId, Limit.of(LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                lastId = (Long) row[0];
+                consumer.accept(lastId, (String) row[1]);
+            }
+            if (rows.size() < LOAD_BATCH_SIZE) {
+                return lastId;
+            }
+        }
+    }
+
+    // DB 의 utf8mb4_unicode_ci 비교처럼 대소문자를 구분하지 않는다
+    private static String normalize(String nickname) {
+        return nickname.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 64bit FNV-1a 에 seed 를 섞고 murmur3 fmix64 로 비트를 고르게 퍼뜨린다
+    private static long hash(String key, long seed) {
+        long h = 0xcbf29ce484222325L ^ (seed * 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @FunctionalInterface
+    private interface NicknameConsumer {
+        void accept(long id, String nickname);
+    }
+
+    /**
+     * 닉네임 변경 (가입: removed == null, 삭제: added == null)
+     */
+    private record NicknameChange(String removed, String added) {
+
+        void applyTo(Snapshot snapshot) {
+            if (removed != null) {
+                snapshot.remove(normalize(removed));
+            }
+            if (added != null) {
+                snapshot.add(normalize(added));
+            }
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final SortedStringSet base;
+        private final BloomFilter bloom;
+        private final Set<String> added = ConcurrentHashMap.newKeySet();
+        private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+        private Snapshot(SortedStringSet base, BloomFilter bloom) {
+            this.base = base;
+            this.bloom = bloom;
+        }
+
+        static Snapshot of(List<String> nicknames, long expectedInsertions, double falsePositiveRate) {
+            BloomFilter bloom = BloomFilter.create(expectedInsertions, falsePositiveRate);
+            for (String nickname : nicknames) {
+                bloom.put(hash(nickname, 0), hash(nickname, 1));
+            }
+            return new Snapshot(SortedStringSet.of(nicknames), bloom);
+        }
+
+        boolean contains(String key) {
+            if (added.contains(key)) {
+                return true;
+            }
+            return !removed.contains(key) && base.contains(key);
+        }
+
+        void add(String key) {
+            // Bloom filter 에 먼저 넣어야 조회 쪽에서 "없음"으로 잘못 판단하지 않는다
+            bloom.put(hash(key, 0), hash(key, 1));
+            added.add(key);
+            removed.remove(key);
+        }
+
+        void remove(String key) {
+            // Bloom filter 에서는 지울 수 없으므로 removed 로 가린다
+            removed.add(key);
+            added.remove(key);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private boolean enabled;
+        private boolean ready;
+        private long size;
+        private long sizeInBytes;
+        private long lookups;
+        private long bloomNegatives;
+        private double expectedFalsePositiveRate;
+    }
+}
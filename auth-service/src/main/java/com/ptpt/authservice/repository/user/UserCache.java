@@ -0,0 +1,83 @@
+package com.ptpt.authservice.repository.user;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 조회 캐시 영역 이름과 키 단위 evict, 통계 조회를 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCache {
+
+    public static final String BY_EMAIL = "usersByEmail";
+    public static final String BY_ID = "usersById";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 한 사용자에 대한 email / id 캐시 항목 제거 (트랜잭션 안이면 커밋 이후 반영)
+     */
+    public void evict(Long id, String email) {
+        if (email != null) {
+            getCache(BY_EMAIL).evict(email);
+        }
+        if (id != null) {
+            getCache(BY_ID).evict(id);
+        }
+        log.debug("사용자 캐시 제거 - id: {}, email: {}", id, email);
+    }
+
+    /**
+     * 캐시 영역별 hit / miss / eviction 통계
+     */
+    public Map<String, Stats> stats() {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        for (String name : List.of(BY_EMAIL, BY_ID)) {
+            Object nativeCache = getCache(name).getNativeCache();
+            if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+                stats.put(name, Stats.of(caffeineCache.stats(), caffeineCache.estimatedSize()));
+            }
+        }
+        return stats;
+    }
+
+    private Cache getCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("캐시 영역이 등록되지 않았습니다: " + name);
+        }
+        return cache;
+    }
+
+    @Getter
+    @Builder
+    public static class Stats {
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private double hitRate;
+        private long size;
+
+        static Stats of(CacheStats cacheStats, long size) {
+            return Stats.builder()
+                    .hitCount(cacheStats.hitCount())
+                    .missCount(cacheStats.missCount())
+                    .evictionCount(cacheStats.evictionCount())
+                    .hitRate(cacheStats.hitRate())
+                    .size(size)
+                    .build();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.ptpt.authservice.repository.user;
 
 import com.ptpt.authservice.dto.User;
 import com.ptpt.authservice.entity.user.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -50,6 +51,12 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
      */
     boolean existsBySocialIdAndSocialType(String socialId, User.SocialType socialType);
 
+    /**
+     * after 보다 큰 id 의 [id, nickname] 을 id 순으로 조회 (닉네임 색인 적재용, PK 범위 스캔)
+     */
+    @Query("SELECT u.id, u.nickname FROM UserEntity u WHERE u.id > :after ORDER BY u.id")
+    List<Object[]> findNicknamesAfter(@Param("after") long after, Limit limit);
+
     // ===== 집계 및 통계 메서드 =====
 
     /**
@@ -81,11 +88,47 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
      */
     Page<UserEntity> findBySocialType(User.SocialType socialType, Pageable pageable);
 
+    // ===== 닉네임 검색 (keyset, COUNT 없음) =====
+
+    /**
+     * 닉네임 접두어 검색 - after 보다 뒤의 닉네임을 사전순으로 (uk_users_nickname 범위 스캔)
+     * - prefix 는 '!' 로 이스케이프한 뒤 '%' 를 붙인 LIKE 패턴
+     */
+    @Query("SELECT u FROM UserEntity u WHERE u.nickname LIKE :prefix ESCAPE '!' " +
+            "AND u.nickname > :after AND u.enabled = true ORDER BY u.nickname ASC")
+    List<UserEntity> findByNicknamePrefix(@Param("prefix") String prefix, @Param("after") String after, Limit limit);
+
+    /**
+     * 닉네임 부분 일치 검색 - n-gram 전문 인덱스(ftx_users_nickname, MySQL 전용)
+     * - phrase 는 큰따옴표로 감싼 BOOLEAN MODE 구문 검색어 (연속된 n-gram 만 일치)
+     * - native 쿼리에는 @Where 가 적용되지 않으므로 deleted_at 조건을 직접 건다
+     */
+    @Query(value = "SELECT * FROM users WHERE MATCH(nickname) AGAINST(:phrase IN BOOLEAN MODE) " +
+            "AND enabled = true AND deleted_at IS NULL AND id < :cursor ORDER BY id DESC LIMIT :limit", nativeQuery = true)
+    List<UserEntity> searchByNicknameFullText(@Param("phrase") String phrase, @Param("cursor") long cursor,
+                                              @Param("limit") int limit);
+
+    /**
+     * 닉네임 부분 일치 검색 - 전문 인덱스가 없는 DB(H2 등)용, 전체 스캔
+     */
+    @Query("SELECT u FROM UserEntity u WHERE u.nickname LIKE :pattern ESCAPE '!' " +
+            "AND u.enabled = true AND u.id < :cursor ORDER BY u.id DESC")
+    List<UserEntity> searchByNicknameLike(@Param("pattern") String pattern, @Param("cursor") long cursor, Limit limit);
+
+    /**
+     * 관심 스포츠별 사용자 조회 (cursor 보다 작은 id 를 id 내림차순으로, idx_user_sports_sport_user 사용)
+     */
+    @Query("SELECT u FROM UserEntity u JOIN u.interestedSports s " +
+            "WHERE s = :sport AND u.enabled = true AND u.id < :cursor ORDER BY u.id DESC")
+    List<UserEntity> findByInterestedSport(@Param("sport") String sport, @Param("cursor") long cursor, Limit limit);
+
     /**
-     * 닉네임 검색 (부분 일치)
+     * 관심 스포츠 + 지역별 사용자 조회 (idx_user_sports_sport_user / idx_user_location 중 선택도가 높은 쪽 사용)
      */
-    @Query("SELECT u FROM UserEntity u WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<UserEntity> searchByNickname(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT u FROM UserEntity u JOIN u.interestedSports s " +
+            "WHERE s = :sport AND u.location = :location AND u.enabled = true AND u.id < :cursor ORDER BY u.id DESC")
+    List<UserEntity> findByInterestedSportAndLocation(@Param("sport") String sport, @Param("location") String location,
+                                                      @Param("cursor") long cursor, Limit limit);
 
     // ===== 벌크 업데이트 메서드 =====
 
@@ -1,15 +1,24 @@
 package com.ptpt.authservice.repository.user;
 
+import com.ptpt.authservice.config.datasource.DataSourceRouting;
+import com.ptpt.authservice.config.datasource.ReadYourWritesTracker;
 import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.entity.user.UserConstraints;
 import com.ptpt.authservice.entity.user.UserEntity;
+import com.ptpt.authservice.exception.social.SocialEmailAlreadyExistsException;
+import com.ptpt.authservice.exception.user.UserCreateFailedException;
 import com.ptpt.authservice.exception.user.UserNotFoundException;
+import com.ptpt.authservice.util.LogMasking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -19,11 +28,18 @@ import java.util.Optional;
 public class UserRepository {
 
     private final UserJpaRepository userJpaRepository;
+    private final UserCache userCache;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final NicknameIndex nicknameIndex;
+
+    // MySQL n-gram 전문 인덱스(ftx_users_nickname) 사용 여부 (false 면 LIKE 전체 스캔, H2 테스트용)
+    @Value("${user-search.nickname.full-text-enabled:true}")
+    private boolean nicknameFullTextEnabled;
 
     /**
      * 이메일로 사용자 조회
      */
-    @Cacheable(value = "users", key = "#email", unless = "#result == null")
+    @Cacheable(value = UserCache.BY_EMAIL, key = "#email", unless = "#result == null")
     public Optional<User> findByEmail(String email) {
         log.debug("이메일로 사용자 조회: {}", email);
 
@@ -31,18 +47,19 @@ public class UserRepository {
         log.debug(
                 "사용자는 {}입니다.", email
         );
-        return userJpaRepository.findUserEntityByEmail(email)
-                .map(UserEntity::toDomain);
+        // 방금 저장한 사용자는 replica 지연 동안 primary 에서 읽는다 (오래된 값이 캐시에 들어가지 않도록)
+        return readYourWritesTracker.readByEmail(email, () -> userJpaRepository.findUserEntityByEmail(email)
+                .map(UserEntity::toDomain));
     }
 
     /**
      * ID로 사용자 조회
      */
-    @Cacheable(value = "users", key = "#id", unless = "#result == null")
+    @Cacheable(value = UserCache.BY_ID, key = "#id", unless = "#result == null")
     public Optional<User> findById(Long id) {
         log.debug("ID로 사용자 조회: {}", id);
-        return userJpaRepository.findById(id)
-                .map(UserEntity::toDomain);
+        return readYourWritesTracker.readById(id, () -> userJpaRepository.findById(id)
+                .map(UserEntity::toDomain));
     }
 
     /**
@@ -54,18 +71,37 @@ public class UserRepository {
                 .map(UserEntity::toDomain);
     }
 
+    /**
+     * 소셜 정보로 사용자 조회 (primary) - 다른 요청이 방금 가입시킨 사용자도 보이도록 replica 를 거치지 않는다
+     */
+    public Optional<User> findBySocialIdAndSocialTypeOnPrimary(String socialId, User.SocialType socialType) {
+        return DataSourceRouting.onPrimary(() -> findBySocialIdAndSocialType(socialId, socialType));
+    }
+
     /**
      * 사용자 저장 (생성 또는 업데이트)
+     * - 중복 확인 조회 없이 바로 flush 하고, unique 제약 위반은 위반된 제약에 맞는 예외로 바꾼다.
      */
     @Transactional
-    @CacheEvict(value = "users", allEntries = true)
     public User save(User user) {
-        UserEntity entity = (user.getId() != null)
-                ? updateExistingUser(user)
+        UserEntity existing = (user.getId() != null) ? findExistingUser(user.getId()) : null;
+        String previousNickname = existing != null ? existing.getNickname() : null;
+
+        UserEntity entity = (existing != null)
+                ? updateExistingUser(existing, user)
                 : createNewUser(user);
 
-        UserEntity savedEntity = userJpaRepository.save(entity);
-        log.info("사용자 저장 완료 - id: {}, email: {}", savedEntity.getId(), savedEntity.getEmail());
+        UserEntity savedEntity;
+        try {
+            savedEntity = userJpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateException(e, user);
+        }
+        log.info("사용자 저장 완료 - id: {}, email: {}", savedEntity.getId(), LogMasking.email(savedEntity.getEmail()));
+
+        userCache.evict(savedEntity.getId(), savedEntity.getEmail());
+        readYourWritesTracker.markWritten(savedEntity.getId(), savedEntity.getEmail());
+        nicknameIndex.onNicknameSaved(previousNickname, savedEntity.getNickname());
 
         return savedEntity.toDomain();
     }
@@ -79,11 +115,26 @@ public class UserRepository {
 
     /**
      * 닉네임 존재 여부 확인
+     * - 색인에 없으면 DB 를 조회하지 않는다 (다른 인스턴스가 방금 저장한 닉네임은 unique 제약이 막는다)
+     * - 색인에 있으면 다른 인스턴스에서 변경 / 삭제됐을 수 있으므로 DB 로 확인한다
      */
     public boolean existsByNickname(String nickname) {
+        if (nicknameIndex.isReady() && !nicknameIndex.contains(nickname)) {
+            return false;
+        }
         return userJpaRepository.existsByNickname(nickname);
     }
 
+    /**
+     * 닉네임 사용 가능 여부 (색인만 보고 답하는 빠른 확인, 색인 준비 전에는 DB 조회)
+     */
+    public boolean isNicknameAvailable(String nickname) {
+        if (nicknameIndex.isReady()) {
+            return !nicknameIndex.contains(nickname);
+        }
+        return !userJpaRepository.existsByNickname(nickname);
+    }
+
     /**
      * 소셜 ID와 타입으로 존재 여부 확인
      */
@@ -95,13 +146,15 @@ public class UserRepository {
      * 사용자 삭제
      */
     @Transactional
-    @CacheEvict(value = "users", allEntries = true)
     public void deleteById(Long id) {
-        if (!userJpaRepository.existsById(id)) {
-            throw new UserNotFoundException("삭제할 사용자를 찾을 수 없습니다. ID: " + id);
-        }
-        userJpaRepository.deleteById(id);
+        UserEntity entity = userJpaRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("삭제할 사용자를 찾을 수 없습니다. ID: " + id));
+        userJpaRepository.delete(entity);
         log.info("사용자 삭제 완료 - id: {}", id);
+
+        userCache.evict(id, entity.getEmail());
+        readYourWritesTracker.markWritten(id, entity.getEmail());
+        nicknameIndex.onNicknameRemoved(entity.getNickname());
     }
 
     /**
@@ -112,6 +165,43 @@ public class UserRepository {
                 .map(UserEntity::toDomain);
     }
 
+    /**
+     * 관심 스포츠(+ 지역)로 사용자 조회 - cursor(없으면 처음)보다 id 가 작은 사용자를 id 내림차순으로 limit 명
+     */
+    public List<User> findByInterestedSport(String sport, String location, Long cursor, int limit) {
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        List<UserEntity> entities = location == null
+                ? userJpaRepository.findByInterestedSport(sport, before, Limit.of(limit))
+                : userJpaRepository.findByInterestedSportAndLocation(sport, location, before, Limit.of(limit));
+        return entities.stream()
+                .map(UserEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * 닉네임 접두어로 사용자 조회 - after(없으면 처음)보다 뒤의 닉네임을 사전순으로 limit 명
+     */
+    public List<User> findByNicknamePrefix(String prefix, String after, int limit) {
+        List<UserEntity> entities = userJpaRepository.findByNicknamePrefix(
+                escapeLike(prefix) + "%", after != null ? after : "", Limit.of(limit));
+        return entities.stream()
+                .map(UserEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * 닉네임 부분 일치로 사용자 조회 - cursor(없으면 처음)보다 id 가 작은 사용자를 id 내림차순으로 limit 명
+     */
+    public List<User> searchByNickname(String keyword, Long cursor, int limit) {
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        List<UserEntity> entities = nicknameFullTextEnabled
+                ? userJpaRepository.searchByNicknameFullText(toFullTextPhrase(keyword), before, limit)
+                : userJpaRepository.searchByNicknameLike("%" + escapeLike(keyword) + "%", before, Limit.of(limit));
+        return entities.stream()
+                .map(UserEntity::toDomain)
+                .toList();
+    }
+
     /**
      * 활성화된 사용자 수 조회
      */
@@ -121,9 +211,12 @@ public class UserRepository {
 
     // ===== Private Helper Methods =====
 
-    private UserEntity updateExistingUser(User user) {
-        UserEntity entity = userJpaRepository.findById(user.getId())
-                .orElseThrow(() -> new UserNotFoundException("업데이트할 사용자를 찾을 수 없습니다. ID: " + user.getId()));
+    private UserEntity findExistingUser(Long id) {
+        return userJpaRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("업데이트할 사용자를 찾을 수 없습니다. ID: " + id));
+    }
+
+    private UserEntity updateExistingUser(UserEntity entity, User user) {
         entity.updateFromDomain(user);
         return entity;
     }
@@ -131,4 +224,28 @@ public class UserRepository {
     private UserEntity createNewUser(User user) {
         return UserEntity.fromDomain(user);
     }
+
+    private RuntimeException toDuplicateException(DataIntegrityViolationException e, User user) {
+        String constraint = UserConstraints.violatedBy(e);
+        if (constraint == null) {
+            return e;
+        }
+        log.info("사용자 저장 중 unique 제약 위반 - constraint: {}", constraint);
+        return switch (constraint) {
+            case UserConstraints.EMAIL -> new SocialEmailAlreadyExistsException(user.getEmail());
+            case UserConstraints.NICKNAME -> new UserCreateFailedException("이미 존재하는 닉네임입니다: " + user.getNickname());
+            default -> new UserCreateFailedException("이미 가입된 소셜 계정입니다.");
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    // BOOLEAN MODE 연산자(+ - * " 등)가 검색어로 해석되지 않도록 큰따옴표를 제거하고 구문으로 감싼다
+    private static String toFullTextPhrase(String keyword) {
+        return "\"" + keyword.replace("\"", "") + "\"";
+    }
 }
\ No newline at end of file
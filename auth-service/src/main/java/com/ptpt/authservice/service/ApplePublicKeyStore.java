@@ -0,0 +1,244 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.dto.apple.ApplePublicKey;
+import com.ptpt.authservice.dto.apple.ApplePublicKeys;
+import com.ptpt.authservice.enums.SocialProvider;
+import com.ptpt.authservice.exception.social.SocialPlatformException;
+import com.ptpt.authservice.exception.social.SocialTokenInvalidException;
+import com.ptpt.authservice.util.AuthMetrics;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Apple 공개키(JWKS) 저장소
+ * - kid 별로 PublicKey 와 미리 만든 JwtParser 를 보관하고, 응답의 Cache-Control(max-age) 주기로 백그라운드 갱신한다.
+ * - 모르는 kid 가 들어온 경우에만 즉시 다시 조회하며, 동시에 들어온 요청은 하나의 조회 결과를 함께 기다린다.
+ */
+@Slf4j
+@Component
+public class ApplePublicKeyStore {
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private final WebClient webClient;
+    private final AuthMetrics authMetrics;
+    private final Duration defaultTtl;
+    private final Duration refetchInterval;
+    private final Duration fetchTimeout;
+
+    private final AtomicReference<CompletableFuture<KeySnapshot>> inflight = new AtomicReference<>();
+    private volatile KeySnapshot snapshot = KeySnapshot.EMPTY;
+    private volatile long lastFetchStartedAt;
+
+    private ScheduledExecutorService refreshScheduler;
+    // 예약된 다음 갱신 (조회가 끝날 때마다 교체해 갱신 예약이 하나만 남도록 한다)
+    private ScheduledFuture<?> scheduledRefresh;
+
+    public ApplePublicKeyStore(Map<SocialProvider, WebClient> socialWebClients,
+                               AuthMetrics authMetrics,
+                               @Value("${apple.public-key-default-ttl:1h}") Duration defaultTtl,
+                               @Value("${apple.public-key-refetch-interval:30s}") Duration refetchInterval,
+                               @Value("${apple.public-key-fetch-timeout:3s}") Duration fetchTimeout) {
+        this.webClient = socialWebClients.get(SocialProvider.APPLE);
+        this.authMetrics = authMetrics;
+        this.defaultTtl = defaultTtl;
+        this.refetchInterval = refetchInterval;
+        this.fetchTimeout = fetchTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "apple-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 기동 시 미리 조회 (실패해도 기동은 계속하고 첫 로그인 때 다시 조회)
+        refresh();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * kid 에 해당하는 공개키로 서명을 검증하는 JwtParser 반환
+     */
+    public JwtParser getParser(String kid) {
+        if (kid == null) {
+            throw new SocialTokenInvalidException("JWT 헤더에 kid 가 없습니다.");
+        }
+
+        // 조회 완료 시 snapshot 을 먼저 바꾸고 inflight 를 비우므로, inflight 를 먼저 읽어야 갱신 결과를 놓치지 않는다
+        CompletableFuture<KeySnapshot> pending = inflight.get();
+        KeySnapshot current = snapshot;
+
+        JwtParser parser = current.parsers().get(kid);
+        if (parser != null) {
+            return parser;
+        }
+
+        // 모르는 kid: 최근에 조회했다면 다시 조회하지 않는다 (임의 kid 로 조회를 유도하는 요청 방지)
+        if (pending == null && !current.isEmpty()
+                && System.nanoTime() - lastFetchStartedAt < refetchInterval.toNanos()) {
+            throw new SocialTokenInvalidException("일치하는 공개키를 찾을 수 없습니다. kid: " + kid);
+        }
+
+        log.info("[ Apple JWKS ] 알 수 없는 kid - 공개키 재조회. kid: {}", kid);
+        parser = await(pending != null ? pending : refresh()).parsers().get(kid);
+        if (parser == null) {
+            throw new SocialTokenInvalidException("일치하는 공개키를 찾을 수 없습니다. kid: " + kid);
+        }
+        return parser;
+    }
+
+    /**
+     * 공개키 조회 (이미 조회 중이면 진행 중인 결과를 공유)
+     */
+    CompletableFuture<KeySnapshot> refresh() {
+        while (true) {
+            CompletableFuture<KeySnapshot> existing = inflight.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            CompletableFuture<KeySnapshot> future = new CompletableFuture<>();
+            if (inflight.compareAndSet(null, future)) {
+                fetch(future);
+                return future;
+            }
+        }
+    }
+
+    private void fetch(CompletableFuture<KeySnapshot> future) {
+        lastFetchStartedAt = System.nanoTime();
+
+        authMetrics.recordJwksFetch(SocialProvider.APPLE.name(), webClient.get()
+                        .retrieve()
+                        .toEntity(ApplePublicKeys.class)
+                        .timeout(fetchTimeout))
+                .toFuture()
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        try {
+                            KeySnapshot fetched = toSnapshot(response);
+                            snapshot = fetched;
+                            log.info("[ Apple JWKS ] 공개키 갱신 완료 - keys: {}, ttl: {}", fetched.parsers().keySet(), fetched.ttl());
+                            scheduleRefresh(fetched.ttl());
+                            inflight.compareAndSet(future, null);
+                            future.complete(fetched);
+                            return;
+                        } catch (Exception e) {
+                            error = e;
+                        }
+                    }
+
+                    log.error("[ Apple JWKS ] 공개키 조회 실패", error);
+                    scheduleRefresh(refetchInterval);
+                    inflight.compareAndSet(future, null);
+                    future.completeExceptionally(error);
+                });
+    }
+
+    /**
+     * 다음 갱신 예약 - 즉시 재조회 / 실패 후 재시도 등 어느 경로로 조회가 끝나도 기존 예약을 취소하고 바꾼다
+     */
+    private synchronized void scheduleRefresh(Duration delay) {
+        if (refreshScheduler == null || refreshScheduler.isShutdown()) {
+            return;
+        }
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        scheduledRefresh = refreshScheduler.schedule(this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private KeySnapshot await(CompletableFuture<KeySnapshot> future) {
+        try {
+            return future.get(fetchTimeout.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SocialPlatformException("Apple 공개키 조회가 중단되었습니다.");
+        } catch (ExecutionException | TimeoutException e) {
+            throw new SocialPlatformException("Apple 공개키 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    private KeySnapshot toSnapshot(ResponseEntity<ApplePublicKeys> response) throws Exception {
+        ApplePublicKeys body = response.getBody();
+        if (body == null || body.getKeys() == null || body.getKeys().isEmpty()) {
+            throw new IllegalStateException("Apple 공개키 응답이 비어 있습니다.");
+        }
+
+        Map<String, JwtParser> parsers = new HashMap<>();
+        for (ApplePublicKey key : body.getKeys()) {
+            PublicKey publicKey = createPublicKey(key);
+            parsers.put(key.getKid(), Jwts.parser().verifyWith(publicKey).build());
+        }
+        return new KeySnapshot(Map.copyOf(parsers), resolveTtl(response.getHeaders()));
+    }
+
+    private Duration resolveTtl(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+            if (matcher.find()) {
+                Duration maxAge = Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+                // 너무 짧은 max-age 로 Apple 을 과도하게 호출하지 않도록 재조회 간격을 하한으로 둔다
+                return maxAge.compareTo(refetchInterval) < 0 ? refetchInterval : maxAge;
+            }
+        }
+        return defaultTtl;
+    }
+
+    private PublicKey createPublicKey(ApplePublicKey publicKey) throws Exception {
+        byte[] nBytes = Base64.getUrlDecoder().decode(publicKey.getN());
+        byte[] eBytes = Base64.getUrlDecoder().decode(publicKey.getE());
+
+        BigInteger modulus = new BigInteger(1, nBytes);
+        BigInteger exponent = new BigInteger(1, eBytes);
+
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
+        KeyFactory keyFactory = KeyFactory.getInstance(publicKey.getKty());
+
+        return keyFactory.generatePublic(spec);
+    }
+
+    record KeySnapshot(Map<String, JwtParser> parsers, Duration ttl) {
+        static final KeySnapshot EMPTY = new KeySnapshot(Map.of(), Duration.ZERO);
+
+        boolean isEmpty() {
+            return parsers.isEmpty();
+        }
+    }
+}
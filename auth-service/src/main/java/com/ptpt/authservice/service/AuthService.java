@@ -14,8 +14,7 @@ import com.ptpt.authservice.exception.social.SocialPlatformException;
 import com.ptpt.authservice.exception.social.SocialTokenInvalidException;
 import com.ptpt.authservice.exception.user.UserCreateFailedException;
 import com.ptpt.authservice.exception.user.UserNotFoundException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ptpt.authservice.util.LogMasking;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,16 +34,20 @@ public class AuthService {
     private final TokenService tokenService;
     private final SocialLoginService socialLoginService;
     private final Map<String, SocialService> socialServices;
-    private final ObjectMapper objectMapper;
 
     /**
      * 일반 로그인 처리
      */
-    @Transactional
+    // BCrypt 검증 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 짧은 트랜잭션)
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public TokenResponse authenticateUser(LoginRequest loginRequest) {
-        log.info("일반 로그인 시도 - email: {}", loginRequest.getEmail());
+        log.atInfo()
+                .setMessage("일반 로그인 시도")
+                .addKeyValue("email", () -> LogMasking.email(loginRequest.getEmail()))
+                .log();
 
         User user = userService.authenticateUser(loginRequest.getEmail(), loginRequest.getPassword());
+        userService.upgradePasswordHashIfNeeded(user, loginRequest.getPassword());
         return tokenService.generateTokens(user);
     }
 
@@ -53,7 +56,10 @@ public class AuthService {
      */
     @Transactional
     public TokenResponse refreshAccessToken(String email) {
-        log.info("토큰 갱신 요청 - email: {}", email);
+        log.atInfo()
+                .setMessage("토큰 갱신 요청")
+                .addKeyValue("email", () -> LogMasking.email(email))
+                .log();
 
         User user = userService.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("토큰 갱신을 위한 사용자를 찾을 수 없습니다: " + email));
@@ -64,7 +70,8 @@ public class AuthService {
     /**
      * 소셜 로그인 처리
      */
-    @Transactional
+    // 소셜 플랫폼 호출 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public SocialLoginResponse handleSocialLogin(String provider, String accessToken) {
         log.info("소셜 로그인 시도 - provider: {}", provider);
 
@@ -77,8 +84,10 @@ public class AuthService {
 
     /**
      * 소셜 회원가입 완료
+     * - 같은 임시 토큰으로 중복 요청이 와도 먼저 가입된 사용자의 토큰을 발급한다 (UserService.createSocialUser)
      */
-    @Transactional
+    // 저장은 INSERT 한 번의 짧은 트랜잭션으로 처리하므로 바깥 트랜잭션을 열지 않는다
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public TokenResponse completeSocialSignup(String tempToken, CompleteSignupRequest request) {
         log.info("소셜 회원가입 완료 요청 - nickname: {}", request.getNickname());
 
@@ -92,16 +101,13 @@ public class AuthService {
         // 2. 임시 토큰 검증 및 정보 추출
         TempUserInfo tempUserInfo = tokenService.validateAndExtractTempToken(tempToken);
 
-        // 3. 닉네임 검증
-        String finalNickname = validateAndGetFinalNickname(tempUserInfo, request.getNickname());
+        // 3. 최종 닉네임 결정 (중복은 저장 시 unique 제약으로 판단)
+        String finalNickname = resolveFinalNickname(tempUserInfo, request.getNickname());
 
         // 4. 추가 필드 검증
         validateAdditionalFields(request);
 
-        // 5. 관심 스포츠를 JSON 문자열로 변환
-        String interestedSportsJson = convertSportsListToJson(request.getInterestedSports());
-
-        // 6. 사용자 생성
+        // 5. 사용자 생성
         User newUser = userService.createSocialUser(
                 tempUserInfo.getEmail(),
                 finalNickname,
@@ -111,12 +117,12 @@ public class AuthService {
                 request.getPhoneNumber(),
                 request.getBirthDate(),
                 request.getLocation(),
-                interestedSportsJson,
+                request.getInterestedSports(),
                 request.getProfileImageUrl(), // 사용자가 새로 업로드한 이미지
                 request.getBio()
         );
 
-        // 7. 토큰 발급
+        // 6. 토큰 발급
         return tokenService.generateTokens(newUser);
     }
 
@@ -174,18 +180,6 @@ public class AuthService {
         return phoneNumber.matches(phoneRegex);
     }
 
-    /**
-     * 관심 스포츠 목록을 JSON 문자열로 변환
-     */
-    private String convertSportsListToJson(List<String> sports) {
-        try {
-            return objectMapper.writeValueAsString(sports);
-        } catch (JsonProcessingException e) {
-            log.error("관심 스포츠 JSON 변환 실패", e);
-            throw new AuthServiceException(ApiResponseCode.USER_CREATE_FAILED, "관심 스포츠 정보 처리 중 오류가 발생했습니다.");
-        }
-    }
-
     /**
      * 유효한 스포츠 목록 반환
      */
@@ -208,7 +202,7 @@ public class AuthService {
         }
 
         try {
-            return socialService.getUserInfo(accessToken);
+            return socialService.getUserInfo(accessToken).block();
         } catch (SocialTokenInvalidException | SocialPlatformException e) {
             // 이미 적절한 예외인 경우 그대로 던짐
             throw e;
@@ -219,18 +213,9 @@ public class AuthService {
     }
 
     /**
-     * 닉네임 검증 및 최종 닉네임 반환
+     * 최종 닉네임 반환 (요청에 없으면 소셜 플랫폼 닉네임)
      */
-    private String validateAndGetFinalNickname(TempUserInfo tempUserInfo, String requestedNickname) {
-        String finalNickname = requestedNickname != null ? requestedNickname : tempUserInfo.getNickname();
-
-        // 기존 닉네임과 다른 경우에만 중복 검사
-        if (!finalNickname.equals(tempUserInfo.getNickname())) {
-            if (userService.existsByNickname(finalNickname)) {
-                throw new UserCreateFailedException("이미 존재하는 닉네임입니다: " + finalNickname);
-            }
-        }
-
-        return finalNickname;
+    private String resolveFinalNickname(TempUserInfo tempUserInfo, String requestedNickname) {
+        return requestedNickname != null ? requestedNickname : tempUserInfo.getNickname();
     }
 }
\ No newline at end of file
@@ -1,8 +1,7 @@
 package com.ptpt.authservice.service;
 
 import com.ptpt.authservice.dto.User;
-import com.ptpt.authservice.entity.user.UserEntity;
-import com.ptpt.authservice.repository.user.UserJpaRepository;
+import com.ptpt.authservice.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,19 +12,20 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserJpaRepository userRepository;
+    private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserEntity userEntity = userRepository.findUserEntityByEmail(email)
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
+        // 캐시에 보관된 객체를 인증 주체로 그대로 넘기지 않고 새 객체로 구성
         return User.builder()
-                .id(userEntity.getId())
-                .email(userEntity.getEmail())
-                .password(userEntity.getPassword())
-                .nickname(userEntity.getNickname())
-                .profileImage(userEntity.getProfileImage())
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .nickname(user.getNickname())
+                .profileImage(user.getProfileImage())
                 .build();
     }
 }
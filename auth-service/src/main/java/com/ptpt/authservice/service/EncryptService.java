@@ -1,20 +1,19 @@
 package com.ptpt.authservice.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class EncryptService {
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     public String encrypt(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return passwordHashingService.encode(rawPassword);
     }
 
     public boolean matches(String source, String target) {
-        return passwordEncoder.matches(source, target);
+        return passwordHashingService.matches(source, target);
     }
 }
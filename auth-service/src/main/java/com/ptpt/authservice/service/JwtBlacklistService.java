@@ -1,28 +1,45 @@
 package com.ptpt.authservice.service;
 
-import com.ptpt.authservice.util.JwtUtil;
+import com.ptpt.authservice.repository.token.RevokedTokenFilter;
+import com.ptpt.authservice.repository.token.TokenFingerprint;
+import com.ptpt.authservice.repository.token.TokenRevocationStore;
+import com.ptpt.authservice.util.VerifiedToken;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
 public class JwtBlacklistService {
 
-//    private final StringRedisTemplate redisTemplate;
-    private final JwtUtil jwtUtil;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RevokedTokenFilter revokedTokenFilter;
 
-    @Value("${jwt.refresh-token-expiration}")
-    private long refreshTokenExpiration; // 밀리초 단위
+    /**
+     * Refresh Token 폐기 (토큰 만료 시각까지 보관)
+     * @return 새로 폐기했으면 true, 이미 폐기된 토큰(재사용)이면 false
+     */
+    public boolean blacklistRefreshToken(VerifiedToken refreshToken) {
+        TokenFingerprint fingerprint = TokenFingerprint.of(refreshToken);
+        Instant expiresAt = refreshToken.getExpiration().toInstant();
 
-    public void blacklistRefreshToken(String refreshToken) {
-        // Refresh Token을 Redis에 추가 (만료 시간을 설정)
-//        redisTemplate.opsForValue().set(refreshToken, "blacklisted", refreshTokenExpiration, TimeUnit.MILLISECONDS);
+        // 필터에 먼저 넣어야 저장소에는 있는데 필터에는 없는 순간이 생기지 않는다
+        revokedTokenFilter.add(fingerprint, expiresAt);
+        return tokenRevocationStore.revoke(fingerprint, expiresAt);
     }
 
-    public boolean isTokenBlacklisted(String refreshToken) {
-        // Refresh Token이 블랙리스트에 있는지 확인
-//        return redisTemplate.hasKey(refreshToken);
-        return false;
+    /**
+     * 폐기된 토큰인지 확인 (필터가 "없음"이라고 하면 저장소를 조회하지 않는다)
+     */
+    public boolean isTokenBlacklisted(VerifiedToken token) {
+        TokenFingerprint fingerprint = TokenFingerprint.of(token);
+        if (!revokedTokenFilter.mightBeRevoked(fingerprint)) {
+            return false;
+        }
+
+        boolean revoked = tokenRevocationStore.isRevoked(fingerprint);
+        revokedTokenFilter.recordStoreLookup(revoked);
+        return revoked;
     }
 }
@@ -0,0 +1,163 @@
+package com.ptpt.authservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ptpt.authservice.exception.auth.LoginThrottledException;
+import com.ptpt.authservice.util.LogMasking;
+import com.ptpt.authservice.util.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도 제한 (이메일별 / 클라이언트 IP별)
+ * - BCrypt 검증과 DB 조회 전에 호출해 거부할 요청은 바로 429 로 돌려보낸다.
+ * - 키마다 토큰 버킷으로 속도를 제한하고, 연속 실패가 threshold 를 넘으면 실패할 때마다 차단 시간을 2배로 늘린다.
+ * - 키 상태는 크기가 제한된 Caffeine 캐시에 두고, 일정 시간 접근이 없으면 제거한다.
+ */
+@Slf4j
+@Service
+public class LoginThrottleService {
+
+    private final boolean enabled;
+    private final Policy emailPolicy;
+    private final Policy ipPolicy;
+    private final Cache<String, LoginAttempts> emailAttempts;
+    private final Cache<String, LoginAttempts> ipAttempts;
+
+    public LoginThrottleService(@Value("${login-throttle.enabled:true}") boolean enabled,
+                                @Value("${login-throttle.email.capacity:5}") int emailCapacity,
+                                @Value("${login-throttle.email.refill-period:1m}") Duration emailRefillPeriod,
+                                @Value("${login-throttle.email.failure-threshold:3}") int emailFailureThreshold,
+                                @Value("${login-throttle.ip.capacity:30}") int ipCapacity,
+                                @Value("${login-throttle.ip.refill-period:1m}") Duration ipRefillPeriod,
+                                @Value("${login-throttle.ip.failure-threshold:20}") int ipFailureThreshold,
+                                @Value("${login-throttle.backoff.initial:1s}") Duration initialBackoff,
+                                @Value("${login-throttle.backoff.max:15m}") Duration maxBackoff,
+                                @Value("${login-throttle.maximum-keys:100000}") long maximumKeys,
+                                @Value("${login-throttle.idle-timeout:30m}") Duration idleTimeout) {
+        this.enabled = enabled;
+        this.emailPolicy = new Policy(emailCapacity, emailRefillPeriod, emailFailureThreshold, initialBackoff, maxBackoff);
+        this.ipPolicy = new Policy(ipCapacity, ipRefillPeriod, ipFailureThreshold, initialBackoff, maxBackoff);
+
+        // 차단 중인 키가 먼저 지워지지 않도록 최대 차단 시간보다 길게 유지
+        Duration expireAfterAccess = idleTimeout.compareTo(maxBackoff) > 0 ? idleTimeout : maxBackoff;
+        this.emailAttempts = newAttemptCache(maximumKeys, expireAfterAccess);
+        this.ipAttempts = newAttemptCache(maximumKeys, expireAfterAccess);
+    }
+
+    /**
+     * 로그인 시도 가능 여부 확인 (불가하면 LoginThrottledException)
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = TokenBucket.now();
+        LoginAttempts emailState = emailAttempts.get(normalize(email), key -> new LoginAttempts(emailPolicy));
+        LoginAttempts ipState = ipAttempts.get(clientIp, key -> new LoginAttempts(ipPolicy));
+
+        long waitNanos = Math.max(emailState.blockedFor(now), ipState.blockedFor(now));
+        if (waitNanos == 0) {
+            // 한쪽이 거부하면 다른 쪽 토큰은 쓰지 않은 것으로 한다 (IP 한도 초과로 거부된 요청이 이메일 한도를 깎지 않도록)
+            waitNanos = emailState.bucket.tryConsume(now);
+            if (waitNanos == 0) {
+                waitNanos = ipState.bucket.tryConsume(now);
+                if (waitNanos > 0) {
+                    emailState.bucket.refund();
+                }
+            }
+        }
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            // 공격 중에는 거부가 요청마다 발생하므로 debug 로만 남긴다 (거부 건수는 429 응답 메트릭으로 확인)
+            log.debug("로그인 시도 제한 - email: {}, ip: {}, retryAfter: {}s", LogMasking.email(email), clientIp, retryAfterSeconds);
+            throw new LoginThrottledException(retryAfterSeconds);
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = TokenBucket.now();
+        emailAttempts.get(normalize(email), key -> new LoginAttempts(emailPolicy)).recordFailure(now);
+        ipAttempts.get(clientIp, key -> new LoginAttempts(ipPolicy)).recordFailure(now);
+    }
+
+    /**
+     * 로그인 성공 - 이메일 키만 초기화한다
+     * - IP 키까지 풀면 공격자가 자기 계정으로 한 번씩 성공해 IP 차단을 계속 풀 수 있다.
+     */
+    public void recordSuccess(String email) {
+        if (!enabled) {
+            return;
+        }
+
+        LoginAttempts emailState = emailAttempts.getIfPresent(normalize(email));
+        if (emailState != null) {
+            emailState.reset();
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, LoginAttempts> newAttemptCache(long maximumKeys, Duration expireAfterAccess) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    private record Policy(int capacity, Duration refillPeriod, int failureThreshold,
+                          Duration initialBackoff, Duration maxBackoff) {
+    }
+
+    /**
+     * 키 하나의 시도 상태 (토큰 버킷 + 연속 실패 횟수 + 차단 만료 시각)
+     */
+    private static final class LoginAttempts {
+
+        private final Policy policy;
+        private final TokenBucket bucket;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong blockedUntilNanos = new AtomicLong();
+
+        private LoginAttempts(Policy policy) {
+            this.policy = policy;
+            this.bucket = new TokenBucket(policy.capacity(), policy.refillPeriod());
+        }
+
+        private long blockedFor(long now) {
+            return Math.max(0, blockedUntilNanos.get() - now);
+        }
+
+        private void recordFailure(long now) {
+            int failures = consecutiveFailures.incrementAndGet();
+            int exponent = failures - policy.failureThreshold();
+            if (exponent < 0) {
+                return;
+            }
+
+            long backoffNanos = policy.initialBackoff().toNanos() << Math.min(exponent, 20);
+            long delayNanos = Math.min(backoffNanos, policy.maxBackoff().toNanos());
+            blockedUntilNanos.accumulateAndGet(now + delayNanos, Math::max);
+        }
+
+        private void reset() {
+            consecutiveFailures.set(0);
+            blockedUntilNanos.set(0);
+        }
+    }
+}
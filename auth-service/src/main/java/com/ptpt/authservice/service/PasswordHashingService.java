@@ -0,0 +1,108 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.exception.server.ServerBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증 전용 실행기
+ * - BCrypt 는 CPU 를 많이 쓰므로 요청 스레드에서 바로 돌리지 않고 크기가 제한된 풀에서만 실행해 다른 API 가 CPU 를 빼앗기지 않게 한다.
+ * - 대기 큐가 가득 차거나 wait-timeout 안에 끝나지 않으면 ServerBusyException(503) 으로 거절한다.
+ * - CPU 작업이므로 가상 스레드 모드에서도 플랫폼 스레드를 사용한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String BUSY_MESSAGE = "비밀번호 처리 요청이 많아 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${password.hashing.pool-size:0}") int poolSize,
+                                  @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${password.hashing.wait-timeout:5s}") Duration waitTimeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeout = waitTimeout;
+
+        // 기본값은 코어의 절반 (나머지는 다른 요청 처리용으로 남긴다)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("비밀번호 해싱 실행기 - threads: {}, queue: {}", threads, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮은지 여부 (해시 헤더만 보므로 실행기를 거치지 않는다)
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 큐 포화 - queue: {}", executor.getQueue().size());
+            throw new ServerBusyException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해싱 대기 시간 초과 - timeout: {}", waitTimeout);
+            throw new ServerBusyException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerBusyException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+}
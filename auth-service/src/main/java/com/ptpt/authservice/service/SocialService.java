@@ -1,7 +1,12 @@
 package com.ptpt.authservice.service;
 
 import com.ptpt.authservice.dto.SocialUserInfo;
+import reactor.core.publisher.Mono;
 
 public interface SocialService {
-    SocialUserInfo getUserInfo(String accessToken);
+
+    /**
+     * 소셜 플랫폼에서 사용자 정보 조회 (호출 스레드를 막지 않는다)
+     */
+    Mono<SocialUserInfo> getUserInfo(String accessToken);
 }
@@ -0,0 +1,80 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.controller.response.TokenIntrospectionResponse;
+import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.exception.AuthServiceException;
+import com.ptpt.authservice.exception.request.InvalidRequestException;
+import com.ptpt.authservice.util.JwtUtil;
+import com.ptpt.authservice.util.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게이트웨이 / 내부 서비스용 토큰 일괄 검증
+ * - 토큰마다 파싱은 JwtUtil.verify 한 번으로 끝내고, 같은 요청 안에서 같은 토큰이 반복되면 결과를 재사용한다.
+ * - 폐기 여부는 Bloom filter 를 거쳐 확인하므로 대부분의 토큰은 저장소를 조회하지 않는다.
+ */
+@Service
+public class TokenIntrospectionService {
+
+    private final JwtUtil jwtUtil;
+    private final JwtBlacklistService jwtBlacklistService;
+    private final int maxTokens;
+
+    public TokenIntrospectionService(JwtUtil jwtUtil,
+                                     JwtBlacklistService jwtBlacklistService,
+                                     @Value("${token-introspection.max-tokens:100}") int maxTokens) {
+        this.jwtUtil = jwtUtil;
+        this.jwtBlacklistService = jwtBlacklistService;
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * 토큰 목록 검증 (요청 순서대로 결과 반환)
+     */
+    public List<TokenIntrospectionResponse> introspect(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new InvalidRequestException("검증할 토큰이 없습니다.");
+        }
+        if (tokens.size() > maxTokens) {
+            throw new InvalidRequestException("한 번에 검증할 수 있는 토큰은 최대 " + maxTokens + "개입니다.");
+        }
+
+        Map<String, TokenIntrospectionResponse> resultsByToken = new HashMap<>();
+        List<TokenIntrospectionResponse> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(resultsByToken.computeIfAbsent(token, this::introspect));
+        }
+        return results;
+    }
+
+    private TokenIntrospectionResponse introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenIntrospectionResponse.inactive(ApiResponseCode.AUTH_TOKEN_MISSING);
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtUtil.verify(token);
+        } catch (AuthServiceException e) {
+            return TokenIntrospectionResponse.inactive(e.getResponseCode());
+        }
+
+        boolean revoked = jwtBlacklistService.isTokenBlacklisted(verifiedToken);
+
+        return TokenIntrospectionResponse.builder()
+                .active(!revoked)
+                .tokenType(verifiedToken.getType() != null ? verifiedToken.getType().name() : null)
+                .subject(verifiedToken.getSubject())
+                .userId(verifiedToken.getUserId())
+                .expiresAt(verifiedToken.getExpiration() != null ? verifiedToken.getExpiration().getTime() : null)
+                .revoked(revoked)
+                .errorCode(revoked ? ApiResponseCode.AUTH_TOKEN_BLACKLISTED.getCode() : null)
+                .build();
+    }
+}
@@ -4,7 +4,10 @@ import com.ptpt.authservice.controller.response.TokenResponse;
 import com.ptpt.authservice.dto.TempUserInfo;
 import com.ptpt.authservice.dto.User;
 import com.ptpt.authservice.exception.token.InvalidTokenException;
+import com.ptpt.authservice.util.AuthMetrics;
 import com.ptpt.authservice.util.JwtUtil;
+import com.ptpt.authservice.util.LogMasking;
+import com.ptpt.authservice.util.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 public class TokenService {
 
     private final JwtUtil jwtUtil;
+    private final AuthMetrics authMetrics;
 
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
@@ -28,12 +32,13 @@ public class TokenService {
      * SecurityContext 설정은 JWT 필터에서 담당
      */
     public TokenResponse generateTokens(User user) {
-        log.info("토큰 생성 시작 - userId: {}, email: {}", user.getId(), user.getEmail());
+        String accessToken = authMetrics.recordPhase("token_signing", () -> jwtUtil.generateAccessToken(user));
+        String refreshToken = authMetrics.recordPhase("token_signing", () -> jwtUtil.generateRefreshToken(user));
 
-        String accessToken = jwtUtil.generateAccessToken(user);
-        String refreshToken = jwtUtil.generateRefreshToken(user);
-
-        log.info("토큰 생성 완료 - userId: {}", user.getId());
+        log.atDebug()
+                .setMessage("토큰 생성 완료")
+                .addKeyValue("userId", user.getId())
+                .log();
 
         return TokenResponse.builder()
                 .accessToken(accessToken)
@@ -62,7 +67,10 @@ public class TokenService {
      * 임시 토큰 생성
      */
     public String generateTempToken(TempUserInfo tempUserInfo) {
-        log.info("임시 토큰 생성 - email: {}", tempUserInfo.getEmail());
+        log.atDebug()
+                .setMessage("임시 토큰 생성")
+                .addKeyValue("email", () -> LogMasking.email(tempUserInfo.getEmail()))
+                .log();
         return jwtUtil.generateTempToken(tempUserInfo);
     }
 
@@ -70,31 +78,20 @@ public class TokenService {
      * 임시 토큰 검증 및 정보 추출
      */
     public TempUserInfo validateAndExtractTempToken(String tempToken) {
-        if (!jwtUtil.validateToken(tempToken) || !jwtUtil.isTempToken(tempToken)) {
-            throw new InvalidTokenException("유효하지 않은 임시 토큰입니다.");
-        }
-
-        return jwtUtil.extractTempUserInfo(tempToken);
-    }
-
-    /**
-     * 토큰 유효성 검증
-     */
-    public boolean validateToken(String token) {
-        return jwtUtil.validateToken(token);
-    }
-
-    /**
-     * 토큰에서 이메일 추출
-     */
-    public String extractEmail(String token) {
-        return jwtUtil.extractEmail(token);
+        return authMetrics.recordPhase("temp_token_validation", () -> {
+            VerifiedToken verifiedToken = jwtUtil.verify(tempToken);
+            if (!verifiedToken.isTempToken()) {
+                throw new InvalidTokenException("유효하지 않은 임시 토큰입니다.");
+            }
+
+            return verifiedToken.toTempUserInfo();
+        });
     }
 
     /**
-     * 리프레시 토큰인지 확인
+     * 토큰 검증 (한 번 파싱한 결과를 VerifiedToken 으로 반환)
      */
-    public boolean isRefreshToken(String token) {
-        return jwtUtil.isRefreshToken(token);
+    public VerifiedToken verify(String token) {
+        return jwtUtil.verify(token);
     }
 }
@@ -3,24 +3,37 @@ package com.ptpt.authservice.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ptpt.authservice.controller.request.UserUpdateRequestBody;
+import com.ptpt.authservice.controller.response.NicknameAvailabilityResponse;
 import com.ptpt.authservice.controller.response.UserProfileResponse;
+import com.ptpt.authservice.controller.response.UserSearchResponse;
+import com.ptpt.authservice.controller.response.UserSliceResponse;
 import com.ptpt.authservice.dto.User;
 import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.enums.NicknameSearchMode;
 import com.ptpt.authservice.exception.AuthServiceException;
+import com.ptpt.authservice.exception.request.InvalidRequestException;
+import com.ptpt.authservice.exception.server.ServerBusyException;
 import com.ptpt.authservice.exception.social.SocialEmailAlreadyExistsException;
 import com.ptpt.authservice.exception.user.UserNotFoundException;
 import com.ptpt.authservice.exception.user.UserCreateFailedException;
 import com.ptpt.authservice.repository.user.UserRepository;
+import com.ptpt.authservice.util.AuthMetrics;
+import com.ptpt.authservice.util.LogMasking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
@@ -29,30 +42,44 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final ProfileImageService profileImageService;
     private final ObjectMapper objectMapper;
+    private final AuthMetrics authMetrics;
+
+    private static final int MAX_NICKNAME_LENGTH = 30;
+    private static final int MAX_SUGGESTION_ATTEMPTS = 30;
+
+    @Value("${user-search.max-page-size:50}")
+    private int maxSearchPageSize;
+
+    @Value("${user-search.nickname.min-contains-length:2}")
+    private int minContainsKeywordLength;
+
+    @Value("${nickname-index.suggestion-count:5}")
+    private int nicknameSuggestionCount;
 
     // ===== User Creation Methods =====
 
     /**
      * 일반 사용자 생성
+     * - 중복 확인(짧은 조회) -> 해싱(트랜잭션 없음) -> 저장(짧은 쓰기) 순으로 나눠 해싱 중에는 커넥션을 잡지 않는다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createNormalUser(String email, String password, String nickname) {
         validateNewUserInput(email, nickname);
 
-        log.info(password);
-
-        String encodedPassword = passwordEncoder.encode(password);
-        log.info(encodedPassword);
+        String encodedPassword = authMetrics.recordPhase("bcrypt_encode", () -> passwordHashingService.encode(password));
 
         User newUser = User.createNormalUser(email, nickname, encodedPassword);
 
         try {
+            // 해싱 사이에 같은 이메일 / 닉네임으로 먼저 가입했다면 unique 제약 위반이 알맞은 예외로 바뀌어 올라온다
             User savedUser = userRepository.save(newUser);
-            log.info("일반 사용자 생성 완료 - userId: {}, email: {}", savedUser.getId(), email);
+            log.info("일반 사용자 생성 완료 - userId: {}, email: {}", savedUser.getId(), LogMasking.email(email));
             return savedUser;
+        } catch (AuthServiceException e) {
+            throw e;
         } catch (Exception e) {
             log.error("사용자 생성 중 오류 발생", e);
             throw new UserCreateFailedException("사용자 생성 중 오류가 발생했습니다.");
@@ -61,8 +88,10 @@ public class UserService {
 
     /**
      * 소셜 사용자 생성 (User DTO 팩토리 메서드 사용)
+     * - 이메일 / 닉네임 / 소셜 계정 중복 확인 조회 없이 INSERT 한 번으로 처리하고, 중복은 unique 제약 위반으로 판단한다.
+     * - 같은 소셜 계정으로 이미 가입돼 있으면(회원가입 완료 요청 중복) 먼저 가입된 사용자를 그대로 반환한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createSocialUser(String email,
                                  String nickname,
                                  String socialId,
@@ -71,42 +100,35 @@ public class UserService {
                                  String phoneNumber,
                                  LocalDate birthDate,
                                  String location,
-                                 String interestedSportsJson,
+                                 List<String> interestedSports,
                                  String profileImageUrl,
                                  String bio) {
 
-        log.info("소셜 사용자 생성 시작 - email: {}, socialType: {}", email, socialType);
-
-        // 1. 이메일 중복 확인
-        if (userRepository.existsByEmail(email)) {
-            throw new UserCreateFailedException("이미 가입된 이메일입니다: " + email);
-        }
-
-        // 2. 닉네임 중복 확인
-        if (userRepository.existsByNickname(nickname)) {
-            throw new UserCreateFailedException("이미 존재하는 닉네임입니다: " + nickname);
-        }
-
-        // 3. 소셜 계정 중복 확인
-        if (userRepository.existsBySocialIdAndSocialType(socialId, socialType)) {
-            throw new UserCreateFailedException("이미 가입된 소셜 계정입니다");
-        }
+        log.info("소셜 사용자 생성 시작 - socialType: {}", socialType);
 
         try {
-            // 4. User DTO 팩토리 메서드를 사용하여 사용자 생성
+            // 1. User DTO 팩토리 메서드를 사용하여 사용자 생성
             User user = User.createSocialUser(
                     email, nickname, socialId, socialType, socialProfileImageUrl,
-                    phoneNumber, birthDate, location, interestedSportsJson, profileImageUrl, bio
+                    phoneNumber, birthDate, location, interestedSports, profileImageUrl, bio
             );
 
-            // 5. 엔티티로 변환하여 저장 (실제 구현에서는 UserEntity에도 새 필드들이 추가되어야 함)
-            User savedUser = userRepository.save(user); // 실제로는 Entity 변환 후 저장
+            // 2. 저장 (중복이면 위반된 unique 제약에 맞는 예외)
+            User savedUser = userRepository.save(user);
             log.info("소셜 사용자 생성 완료 - userId: {}", savedUser.getId());
 
             return savedUser;
 
+        } catch (SocialEmailAlreadyExistsException | UserCreateFailedException e) {
+            // 3. 같은 소셜 계정으로 먼저 처리된 요청이 있으면 그 결과를 돌려준다 (primary 에서 확인)
+            return userRepository.findBySocialIdAndSocialTypeOnPrimary(socialId, socialType)
+                    .map(existingUser -> {
+                        log.info("소셜 회원가입 중복 요청 - 기존 사용자 반환, userId: {}", existingUser.getId());
+                        return existingUser;
+                    })
+                    .orElseThrow(() -> e);
         } catch (Exception e) {
-            log.error("소셜 사용자 생성 실패 - email: {}", email, e);
+            log.error("소셜 사용자 생성 실패 - email: {}", LogMasking.email(email), e);
             throw new UserCreateFailedException("사용자 계정 생성 중 오류가 발생했습니다.");
         }
     }
@@ -135,7 +157,7 @@ public class UserService {
      */
     @Transactional
     public User updateUserInfo(String email, UserUpdateRequestBody updateRequest, MultipartFile profileImage) {
-        log.info("사용자 정보 업데이트 요청 - email: {}", email);
+        log.info("사용자 정보 업데이트 요청 - email: {}", LogMasking.email(email));
 
         User user = getUserByEmail(email);
 
@@ -154,13 +176,17 @@ public class UserService {
         }
 
         try {
-            user.updateUserInfo(
+            // 조회한 User 는 캐시와 공유되므로 직접 수정하지 않고 변경된 사본을 저장
+            User updatedUser = user.updateProfile(
                     updateRequest.getNickname(),
-                    updateRequest.getPhoneNumber(),
+                    updateRequest.getBio(),
                     updateRequest.getProfileImage(),
-                    updateRequest.getBio()
+                    updateRequest.getPhoneNumber(),
+                    null,
+                    null,
+                    null
             );
-            return userRepository.save(user);
+            return userRepository.save(updatedUser);
         } catch (Exception e) {
             log.error("사용자 정보 업데이트 중 오류 발생", e);
             throw new AuthServiceException(ApiResponseCode.USER_UPDATE_FAILED, "사용자 정보 업데이트 중 오류가 발생했습니다.");
@@ -173,8 +199,122 @@ public class UserService {
     public UserProfileResponse getUserProfileById(Long userId) {
         log.info("사용자 프로필 조회 요청 - userId: {}", userId);
 
-        User user = getUserById(userId);
+        return toProfileResponse(getUserById(userId));
+    }
+
+    /**
+     * 관심 스포츠(+ 지역)가 같은 사용자 목록 (id 내림차순 커서 페이징)
+     */
+    public UserSliceResponse findUsersBySport(String sport, String location, Long cursor, int size) {
+        if (sport == null || sport.isBlank()) {
+            throw new InvalidRequestException("sport 는 필수입니다.");
+        }
+        validatePageSize(size);
+
+        String normalizedLocation = location == null || location.isBlank() ? null : location.trim();
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 판단
+        List<User> users = userRepository.findByInterestedSport(sport.trim(), normalizedLocation, cursor, size + 1);
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+
+        return UserSliceResponse.builder()
+                .users(page.stream().map(this::toProfileResponse).toList())
+                .nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 닉네임 검색
+     * - PREFIX: 자동완성용 접두어 검색 (닉네임 사전순, cursor 는 마지막 닉네임)
+     * - CONTAINS: 부분 일치 검색 (n-gram 전문 인덱스, id 내림차순, cursor 는 마지막 id)
+     * - COUNT 없이 한 건 더 조회해서 다음 페이지 존재 여부를 판단한다.
+     */
+    public UserSearchResponse searchUsersByNickname(String keyword, NicknameSearchMode mode, String cursor, int size) {
+        String normalizedKeyword = keyword == null ? "" : keyword.trim();
+        // n-gram 토큰(ngram_token_size)보다 짧은 부분 일치 검색어는 전문 인덱스를 쓸 수 없으므로 받지 않는다
+        int minLength = mode == NicknameSearchMode.CONTAINS ? minContainsKeywordLength : 1;
+        if (normalizedKeyword.length() < minLength || normalizedKeyword.length() > MAX_NICKNAME_LENGTH) {
+            throw new InvalidRequestException("검색어는 " + minLength + "자 이상 " + MAX_NICKNAME_LENGTH + "자 이하여야 합니다.");
+        }
+        validatePageSize(size);
+
+        List<User> users = mode == NicknameSearchMode.PREFIX
+                ? userRepository.findByNicknamePrefix(normalizedKeyword, cursor, size + 1)
+                : userRepository.searchByNickname(normalizedKeyword, parseIdCursor(cursor), size + 1);
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+
+        String nextCursor = null;
+        if (hasNext) {
+            User last = page.get(page.size() - 1);
+            nextCursor = mode == NicknameSearchMode.PREFIX ? last.getNickname() : String.valueOf(last.getId());
+        }
 
+        return UserSearchResponse.builder()
+                .users(page.stream().map(this::toProfileResponse).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > maxSearchPageSize) {
+            throw new InvalidRequestException("size 는 1 이상 " + maxSearchPageSize + " 이하여야 합니다.");
+        }
+    }
+
+    private Long parseIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 cursor 입니다.");
+        }
+    }
+
+    /**
+     * 닉네임 사용 가능 여부 확인 (메모리 색인 조회, 사용 중이면 숫자를 붙인 추천 닉네임을 함께 반환)
+     */
+    public NicknameAvailabilityResponse checkNicknameAvailability(String nickname) {
+        String normalizedNickname = nickname == null ? "" : nickname.trim();
+        if (normalizedNickname.isEmpty() || normalizedNickname.length() > MAX_NICKNAME_LENGTH) {
+            throw new InvalidRequestException("닉네임은 1자 이상 " + MAX_NICKNAME_LENGTH + "자 이하여야 합니다.");
+        }
+
+        boolean available = userRepository.isNicknameAvailable(normalizedNickname);
+
+        return NicknameAvailabilityResponse.builder()
+                .nickname(normalizedNickname)
+                .available(available)
+                .suggestions(available ? List.of() : suggestNicknames(normalizedNickname))
+                .build();
+    }
+
+    private List<String> suggestNicknames(String nickname) {
+        Set<String> suggestions = new LinkedHashSet<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < MAX_SUGGESTION_ATTEMPTS && suggestions.size() < nicknameSuggestionCount; attempt++) {
+            // 후보가 계속 사용 중이면 붙이는 숫자 자릿수를 늘린다 (2 -> 3 -> 4자리)
+            int digits = Math.min(2 + attempt / 10, 4);
+            int lowerBound = (int) Math.pow(10, digits - 1);
+            String suffix = String.valueOf(random.nextInt(lowerBound, lowerBound * 10));
+            String base = nickname.length() + suffix.length() > MAX_NICKNAME_LENGTH
+                    ? nickname.substring(0, MAX_NICKNAME_LENGTH - suffix.length())
+                    : nickname;
+            String candidate = base + suffix;
+
+            if (userRepository.isNicknameAvailable(candidate)) {
+                suggestions.add(candidate);
+            }
+        }
+        return List.copyOf(suggestions);
+    }
+
+    private UserProfileResponse toProfileResponse(User user) {
         return UserProfileResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
@@ -187,9 +327,9 @@ public class UserService {
 
 
     /**
-     * 비밀번호 변경
+     * 비밀번호 변경 (해싱 중에는 커넥션을 잡지 않고, 저장만 짧은 트랜잭션으로 처리)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(String email, String currentPassword, String newPassword) {
         User user = authenticateUser(email, currentPassword);
 
@@ -197,14 +337,20 @@ public class UserService {
             throw new AuthServiceException(ApiResponseCode.AUTH_LOGIN_FAILED, "소셜 로그인 사용자는 비밀번호를 변경할 수 없습니다.");
         }
 
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+        // 현재 비밀번호는 위에서 검증했으므로 해시를 다시 비교하지 않고 평문끼리 비교
+        if (newPassword.equals(currentPassword)) {
             throw new AuthServiceException(ApiResponseCode.AUTH_LOGIN_FAILED, "기존 비밀번호와 동일한 비밀번호로 변경할 수 없습니다.");
         }
 
-        String encodedNewPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(encodedNewPassword);
+        String encodedNewPassword = passwordHashingService.encode(newPassword);
+        LocalDateTime now = LocalDateTime.now();
+        User updatedUser = user.toBuilder()
+                .password(encodedNewPassword)
+                .passwordChangedAt(now)
+                .updatedAt(now)
+                .build();
 
-        userRepository.save(user);
+        userRepository.save(updatedUser);
         log.info("비밀번호 변경 완료 - userId: {}", user.getId());
     }
 
@@ -250,10 +396,11 @@ public class UserService {
     // ===== Authentication Methods =====
 
     /**
-     * 이메일과 비밀번호로 사용자 인증
+     * 이메일과 비밀번호로 사용자 인증 (사용자 조회만 짧은 읽기 트랜잭션, BCrypt 검증은 트랜잭션 밖)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User authenticateUser(String email, String password) {
-        User user = getUserByEmail(email);
+        User user = authMetrics.recordPhase("db_lookup", () -> getUserByEmail(email));
 
         log.debug("UserService email {}", user.getEmail());
 
@@ -261,7 +408,7 @@ public class UserService {
             throw new AuthServiceException(ApiResponseCode.AUTH_LOGIN_FAILED, "소셜 로그인 사용자입니다.");
         }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!authMetrics.recordPhase("bcrypt_match", () -> passwordHashingService.matches(password, user.getPassword()))) {
             throw new AuthServiceException(ApiResponseCode.AUTH_LOGIN_FAILED, "비밀번호가 올바르지 않습니다.");
         }
 
@@ -272,6 +419,29 @@ public class UserService {
         return user;
     }
 
+    /**
+     * 로그인에 성공한 사용자의 해시 cost 가 현재 설정보다 낮으면 새 cost 로 다시 해싱
+     * - 해싱 실행기가 포화 상태면 이번 로그인에서는 건너뛰고 다음 로그인 때 다시 시도한다.
+     * - 해싱은 트랜잭션 밖에서 하고 저장만 짧은 트랜잭션으로 처리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+            String upgradedPassword = passwordHashingService.encode(rawPassword);
+            userRepository.save(user.toBuilder()
+                    .password(upgradedPassword)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            log.info("비밀번호 해시 cost 업그레이드 - userId: {}", user.getId());
+        } catch (ServerBusyException e) {
+            log.info("비밀번호 해시 업그레이드 건너뜀 (해싱 실행기 포화) - userId: {}", user.getId());
+        }
+    }
+
     // ===== Validation Methods =====
 
     /**
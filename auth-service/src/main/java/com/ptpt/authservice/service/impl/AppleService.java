@@ -2,25 +2,22 @@ package com.ptpt.authservice.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ptpt.authservice.dto.SocialUserInfo;
-import com.ptpt.authservice.dto.apple.ApplePublicKey;
-import com.ptpt.authservice.dto.apple.ApplePublicKeys;
+import com.ptpt.authservice.enums.SocialProvider;
 import com.ptpt.authservice.exception.social.SocialPlatformException;
 import com.ptpt.authservice.exception.social.SocialTokenInvalidException;
+import com.ptpt.authservice.service.ApplePublicKeyStore;
 import com.ptpt.authservice.service.SocialService;
+import com.ptpt.authservice.util.AuthMetrics;
+import com.ptpt.authservice.util.LogMasking;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.JwtParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.math.BigInteger;
-import java.security.KeyFactory;
-import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Set;
@@ -30,9 +27,6 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class AppleService implements SocialService {
 
-    @Value("${apple.public-key-url:https://appleid.apple.com/auth/keys}")
-    private String APPLE_PUBLIC_KEY_URL;
-
     @Value("${apple.iss:https://appleid.apple.com}")
     private String APPLE_ISS;
 
@@ -40,31 +34,39 @@ public class AppleService implements SocialService {
     private String CLIENT_ID;
 
     private final ObjectMapper objectMapper;
+    private final ApplePublicKeyStore applePublicKeyStore;
+    private final Scheduler socialBlockingScheduler;
+    private final AuthMetrics authMetrics;
 
+    /**
+     * 서명 검증은 CPU 작업이고 모르는 kid 면 공개키 재조회를 기다릴 수 있으므로 socialBlockingScheduler 에서 처리
+     */
     @Override
-    public SocialUserInfo getUserInfo(String identityToken) {
-        try {
-            log.info("[ Apple Service ] Identity Token 검증 시작");
-            log.info("[ Apple Service ] Identity Token ---> {}", identityToken.substring(0, Math.min(50, identityToken.length())) + "...");
-
-            // 1. Apple의 공개키 가져오기
-            ApplePublicKeys publicKeys = getApplePublicKeys();
-            log.info("[ Apple Service ] Apple 공개키 조회 완료");
+    public Mono<SocialUserInfo> getUserInfo(String identityToken) {
+        return authMetrics.recordSocialUpstream(SocialProvider.APPLE.name(),
+                Mono.fromCallable(() -> verifyAndExtractUserInfo(identityToken))
+                        .subscribeOn(socialBlockingScheduler));
+    }
 
-            // 2. Identity Token 검증 및 파싱
-            Claims claims = verifyAndParseToken(identityToken, publicKeys);
-            log.info("[ Apple Service ] Identity Token 검증 완료");
+    private SocialUserInfo verifyAndExtractUserInfo(String identityToken) {
+        try {
+            // 1. Identity Token 검증 및 파싱 (공개키는 ApplePublicKeyStore 에 캐시)
+            Claims claims = verifyAndParseToken(identityToken);
 
-            // 3. Claims에서 사용자 정보 추출
+            // 2. Claims에서 사용자 정보 추출
             String socialId = claims.getSubject();
             String email = claims.get("email", String.class);
             String nickname = extractNickname(claims);
 
-            log.info("[ Apple Service ] Apple ID ---> {}", socialId);
-            log.info("[ Apple Service ] Email ---> {}", email);
-            log.info("[ Apple Service ] NickName ---> {}", nickname);
+            // 요청당 한 줄, 이메일은 마스킹 (identity token 은 남기지 않음)
+            log.atInfo()
+                    .setMessage("[ Apple Service ] Identity Token 검증 완료")
+                    .addKeyValue("socialId", socialId)
+                    .addKeyValue("email", () -> LogMasking.email(email))
+                    .addKeyValue("expiresAt", claims::getExpiration)
+                    .log();
 
-            // 4. SocialUserInfo 생성
+            // 3. SocialUserInfo 생성
             return SocialUserInfo.builder()
                     .socialId(socialId)
                     .email(email)
@@ -82,38 +84,8 @@ public class AppleService implements SocialService {
         }
     }
 
-    private ApplePublicKeys getApplePublicKeys() {
-        try {
-            log.info("APPLE_PUBLIC_KEY_URL = {}", APPLE_PUBLIC_KEY_URL);
-
-            return WebClient.create(APPLE_PUBLIC_KEY_URL)
-                    .get()
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError,
-                            clientResponse -> {
-                                log.error("Apple 공개키 조회 4xx 에러 발생: {}", clientResponse.statusCode());
-                                return Mono.error(new SocialPlatformException("Apple 공개키 조회 요청이 잘못되었습니다."));
-                            })
-                    .onStatus(HttpStatusCode::is5xxServerError,
-                            clientResponse -> {
-                                log.error("Apple 공개키 조회 5xx 에러 발생: {}", clientResponse.statusCode());
-                                return Mono.error(new SocialPlatformException("Apple 서버에서 오류가 발생했습니다."));
-                            })
-                    .bodyToMono(ApplePublicKeys.class)
-                    .block();
-
-        } catch (SocialPlatformException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("[ Apple Service ] 공개키 조회 중 예외 발생", e);
-            throw new SocialPlatformException("Apple 공개키 조회 중 예상치 못한 오류가 발생했습니다.");
-        }
-    }
-
-    private Claims verifyAndParseToken(String identityToken, ApplePublicKeys publicKeys) {
+    private Claims verifyAndParseToken(String identityToken) {
         try {
-            log.debug("identityToken = {}", identityToken.substring(0, Math.min(50, identityToken.length())) + "...");
-
             // JWT의 헤더에서 kid 추출
             String[] chunks = identityToken.split("\\.");
             if (chunks.length != 3) {
@@ -125,23 +97,15 @@ public class AppleService implements SocialService {
             String kid = headerMap.get("kid");
             String alg = headerMap.get("alg");
 
-            log.info("[ Apple Service ] JWT Header - kid: {}, alg: {}", kid, alg);
-
-            // kid에 해당하는 공개키 찾기
-            ApplePublicKey publicKey = publicKeys.getKeys().stream()
-                    .filter(key -> key.getKid().equals(kid))
-                    .findFirst()
-                    .orElseThrow(() -> new SocialTokenInvalidException("일치하는 공개키를 찾을 수 없습니다. kid: " + kid));
-
-            log.info("[ Apple Service ] 공개키 매칭 완료 - kid: {}", kid);
+            log.atDebug()
+                    .setMessage("[ Apple Service ] JWT Header")
+                    .addKeyValue("kid", kid)
+                    .addKeyValue("alg", alg)
+                    .log();
 
-            // RSA 공개키 생성
-            PublicKey rsaPublicKey = createPublicKey(publicKey);
-
-            // JWT 검증 및 파싱
-            Claims claims = Jwts.parser()
-                    .setSigningKey(rsaPublicKey)
-                    .build()
+            // kid에 해당하는 공개키로 만들어 둔 parser 로 JWT 검증 및 파싱
+            JwtParser jwtParser = applePublicKeyStore.getParser(kid);
+            Claims claims = jwtParser
                     .parseClaimsJws(identityToken)
                     .getBody();
 
@@ -150,7 +114,7 @@ public class AppleService implements SocialService {
 
             return claims;
 
-        }  catch (SocialTokenInvalidException e) {
+        }  catch (SocialTokenInvalidException | SocialPlatformException e) {
             throw e;
         } catch (Exception e) {
             log.error("[ Apple Service ] Identity token 검증 실패", e);
@@ -182,21 +146,6 @@ public class AppleService implements SocialService {
             throw new SocialTokenInvalidException("유효하지 않은 사용자 식별자입니다.");
         }
 
-//        log.info("[ Apple Service ] Claims 검증 완료 - iss: {}, aud: {}, sub: {}", iss, aud, sub);
-        log.info("[ Apple Service ] Token 만료시간: {}", claims.getExpiration());
-    }
-
-    private PublicKey createPublicKey(ApplePublicKey publicKey) throws Exception {
-        byte[] nBytes = Base64.getUrlDecoder().decode(publicKey.getN());
-        byte[] eBytes = Base64.getUrlDecoder().decode(publicKey.getE());
-
-        BigInteger modulus = new BigInteger(1, nBytes);
-        BigInteger exponent = new BigInteger(1, eBytes);
-
-        RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
-        KeyFactory keyFactory = KeyFactory.getInstance(publicKey.getKty());
-
-        return keyFactory.generatePublic(spec);
     }
 
     private String extractNickname(Claims claims) {
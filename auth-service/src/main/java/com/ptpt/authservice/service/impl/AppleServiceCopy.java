@@ -12,6 +12,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigInteger;
 import java.security.KeyFactory;
@@ -37,7 +39,12 @@ public class AppleServiceCopy implements SocialService {
     private final ObjectMapper objectMapper;
 
     @Override
-    public SocialUserInfo getUserInfo(String identityToken) {
+    public Mono<SocialUserInfo> getUserInfo(String identityToken) {
+        return Mono.fromCallable(() -> fetchUserInfo(identityToken))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private SocialUserInfo fetchUserInfo(String identityToken) {
         try {
             // 1. Apple의 공개키 가져오기
             ApplePublicKeys publicKeys = getApplePublicKeys();
@@ -2,84 +2,79 @@ package com.ptpt.authservice.service.impl;
 
 import com.ptpt.authservice.dto.SocialUserInfo;
 import com.ptpt.authservice.dto.kakao.KakaoUserInfoResponse;
+import com.ptpt.authservice.enums.SocialProvider;
+import com.ptpt.authservice.exception.AuthServiceException;
 import com.ptpt.authservice.exception.social.SocialPlatformException;
 import com.ptpt.authservice.exception.social.SocialTokenInvalidException;
 import com.ptpt.authservice.service.SocialService;
+import com.ptpt.authservice.util.AuthMetrics;
+import com.ptpt.authservice.util.LogMasking;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoService implements SocialService {
 
-    @Value("${kakao.kauth-user-url}")
-    private String KAUTH_USER_URL_HOST;
+    private final Map<SocialProvider, WebClient> socialWebClients;
+    private final AuthMetrics authMetrics;
 
     @Override
-    public SocialUserInfo getUserInfo(String accessToken) {
-        KakaoUserInfoResponse kakaoUserInfo = getKakaoUserInfo(accessToken);
-
-        log.info("[ Kakao Service ] Auth ID ---> {} ", kakaoUserInfo.getId());
+    public Mono<SocialUserInfo> getUserInfo(String accessToken) {
+        return authMetrics.recordSocialUpstream(SocialProvider.KAKAO.name(), getKakaoUserInfo(accessToken))
+                .map(kakaoUserInfo -> {
+                    // 요청당 한 줄, 이메일은 마스킹 (액세스 토큰은 남기지 않음)
+                    log.atInfo()
+                            .setMessage("[ Kakao Service ] 사용자 정보 조회 완료")
+                            .addKeyValue("socialId", kakaoUserInfo.getId())
+                            .addKeyValue("email", () -> LogMasking.email(kakaoUserInfo.getKakaoAccount().getEmail()))
+                            .log();
 
-        return SocialUserInfo.builder()
-                .socialId(String.valueOf(kakaoUserInfo.getId()))
-                .email(kakaoUserInfo.getKakaoAccount().getEmail())
-                .nickname(kakaoUserInfo.getKakaoAccount().getProfile().getNickName())
-                .profileImageUrl(kakaoUserInfo.getKakaoAccount().getProfile().getProfileImageUrl())
-                .provider("KAKAO")
-                .build();
+                    return SocialUserInfo.builder()
+                            .socialId(String.valueOf(kakaoUserInfo.getId()))
+                            .email(kakaoUserInfo.getKakaoAccount().getEmail())
+                            .nickname(kakaoUserInfo.getKakaoAccount().getProfile().getNickName())
+                            .profileImageUrl(kakaoUserInfo.getKakaoAccount().getProfile().getProfileImageUrl())
+                            .provider("KAKAO")
+                            .build();
+                });
     }
 
-    private KakaoUserInfoResponse getKakaoUserInfo(String accessToken) {
-
-        try {
-            log.info("KAUTH_USER_URL_HOST = {}", KAUTH_USER_URL_HOST);
-            log.info("[ Kakao Service ] Access Token ---> {} ", accessToken);
-
-            KakaoUserInfoResponse userInfo = WebClient.create(KAUTH_USER_URL_HOST)
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .path("/v2/user/me")
-                            .build(true))
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .header(HttpHeaders.CONTENT_TYPE, HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED.toString())
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError,
-                            clientResponse -> {
-                                log.error("카카오 API 4xx 에러 발생: {}", clientResponse.statusCode());
-                                if (clientResponse.statusCode().value() == 401) {
-                                    return Mono.error(new SocialTokenInvalidException("유효하지 않은 카카오 액세스 토큰입니다."));
-                                }
-                                return Mono.error(new SocialPlatformException("카카오 API 요청이 잘못되었습니다."));
-                            })
-                    .onStatus(HttpStatusCode::is5xxServerError,
-                            clientResponse -> {
-                                log.error("5xx 에러 발생: {}", clientResponse.statusCode());
-                                return Mono.error(new SocialPlatformException("카카오 서버에서 오류가 발생했습니다."));
-                            })
-                    .bodyToMono(KakaoUserInfoResponse.class)
-                    .block();
-
-            log.info("[ Kakao Service ] Auth ID ---> {} ", userInfo.getId());
-            log.info("[ Kakao Service ] Email ---> {} ", userInfo.getKakaoAccount().getEmail());
-            log.info("[ Kakao Service ] NickName ---> {} ", userInfo.getKakaoAccount().getProfile().getNickName());
-
-            return userInfo;
-        } catch (SocialTokenInvalidException | SocialPlatformException e) {
-            // 이미 커스텀 예외인 경우 그대로 던짐
-            throw e;
-        } catch (Exception e) {
-            log.error("[Kakao Service] 유저 정보 요청 중 예외 발생", e);
-            throw new SocialPlatformException("카카오 사용자 정보 조회 중 예상치 못한 오류가 발생했습니다.");
-        }
+    private Mono<KakaoUserInfoResponse> getKakaoUserInfo(String accessToken) {
+        return socialWebClients.get(SocialProvider.KAKAO)
+                .get()
+                .uri("/v2/user/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.CONTENT_TYPE, HttpHeaderValues.APPLICATION_X_WWW_FORM_URLENCODED.toString())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        clientResponse -> {
+                            log.error("카카오 API 4xx 에러 발생: {}", clientResponse.statusCode());
+                            if (clientResponse.statusCode().value() == 401) {
+                                return Mono.error(new SocialTokenInvalidException("유효하지 않은 카카오 액세스 토큰입니다."));
+                            }
+                            return Mono.error(new SocialPlatformException("카카오 API 요청이 잘못되었습니다."));
+                        })
+                .onStatus(HttpStatusCode::is5xxServerError,
+                        clientResponse -> {
+                            log.error("5xx 에러 발생: {}", clientResponse.statusCode());
+                            return Mono.error(new SocialPlatformException("카카오 서버에서 오류가 발생했습니다."));
+                        })
+                .bodyToMono(KakaoUserInfoResponse.class)
+                .switchIfEmpty(Mono.error(() -> new SocialPlatformException("카카오 사용자 정보 응답이 비어 있습니다.")))
+                // 이미 커스텀 예외인 경우 그대로 전달하고, 나머지(타임아웃, 연결 실패 등)만 변환
+                .onErrorMap(e -> !(e instanceof AuthServiceException), e -> {
+                    log.error("[Kakao Service] 유저 정보 요청 중 예외 발생", e);
+                    return new SocialPlatformException("카카오 사용자 정보 조회 중 예상치 못한 오류가 발생했습니다.");
+                });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.ptpt.authservice.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.function.Supplier;
+
+/**
+ * 로그인 / 토큰 갱신 / 소셜 로그인 구간별 메트릭
+ * - 느린 로그인이 DB, BCrypt, 서명, 소셜 플랫폼 중 어디서 생기는지 구간별 Timer 로 나눠 본다.
+ * - Timer 히스토그램은 management.metrics.distribution.percentiles-histogram.auth 설정으로 켠다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+
+    /** 처리 구간별 소요 시간 (phase: db_lookup, bcrypt_match, bcrypt_encode, token_signing, ...) */
+    public static final String PHASE = "auth.phase";
+    /** 소셜 플랫폼 호출 소요 시간 (provider: KAKAO, APPLE) */
+    public static final String SOCIAL_UPSTREAM = "auth.social.upstream";
+    /** 외부 JWKS(공개키) 조회 소요 시간 (provider: APPLE) */
+    public static final String JWKS_FETCH = "auth.jwks.fetch";
+    /** GlobalExceptionHandler 가 돌려준 응답 코드별 횟수 */
+    public static final String API_RESPONSES = "auth.api.responses";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 구간 소요 시간 기록
+     */
+    public <T> T recordPhase(String phase, Supplier<T> supplier) {
+        return record(PHASE, Tags.of("phase", phase), supplier);
+    }
+
+    /**
+     * 소셜 플랫폼 호출 소요 시간 기록 (구독부터 완료/실패/취소까지)
+     */
+    public <T> Mono<T> recordSocialUpstream(String provider, Mono<T> mono) {
+        return record(SOCIAL_UPSTREAM, Tags.of("provider", provider), mono);
+    }
+
+    /**
+     * 외부 JWKS 조회 소요 시간 기록
+     */
+    public <T> Mono<T> recordJwksFetch(String provider, Mono<T> mono) {
+        return record(JWKS_FETCH, Tags.of("provider", provider), mono);
+    }
+
+    /**
+     * 에러 응답 코드별 횟수
+     */
+    public void countResponse(String code, int status) {
+        Counter.builder(API_RESPONSES)
+                .tags("code", code, "status", String.valueOf(status))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private <T> T record(String name, Tags tags, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = supplier.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(name, tags.and("outcome", outcome)));
+        }
+    }
+
+    private <T> Mono<T> record(String name, Tags tags, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return mono.doFinally(signal ->
+                    sample.stop(meterRegistry.timer(name, tags.and("outcome", outcome(signal)))));
+        });
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case CANCEL -> "cancelled";
+            default -> "error";
+        };
+    }
+}
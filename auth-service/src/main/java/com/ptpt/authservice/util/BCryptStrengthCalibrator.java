@@ -0,0 +1,44 @@
+package com.ptpt.authservice.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * 목표 해싱 시간에 맞는 BCrypt cost(strength) 계산
+ * - cost 가 1 오를 때마다 해싱 시간이 2배가 되므로, 최소 cost 에서 측정한 시간으로 목표 시간을 넘지 않는 최대 cost 를 고른다.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURE_ROUNDS = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        String salt = BCrypt.gensalt(minStrength);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            BCrypt.hashpw("calibration", salt);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            BCrypt.hashpw("calibration", salt);
+        }
+        long measuredNanos = Math.max(1, (System.nanoTime() - startedAt) / MEASURE_ROUNDS);
+
+        int strength = minStrength;
+        long expectedNanos = measuredNanos;
+        while (strength < maxStrength && expectedNanos * 2 <= targetLatency.toNanos()) {
+            strength++;
+            expectedNanos *= 2;
+        }
+
+        log.info("BCrypt strength 보정 - target: {}, cost {}: {}ms, 선택: cost {} (예상 {}ms)",
+                targetLatency, minStrength, measuredNanos / 1_000_000, strength, expectedNanos / 1_000_000);
+        return strength;
+    }
+}
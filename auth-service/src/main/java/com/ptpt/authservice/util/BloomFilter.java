@@ -0,0 +1,101 @@
+package com.ptpt.authservice.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없이 동시에 추가/조회할 수 있는 Bloom filter
+ * - 값은 이미 고르게 분포된 64bit 해시 두 개(h1, h2)로 받아 double hashing 으로 비트 위치를 정한다.
+ * - false 응답은 "확실히 없음", true 응답은 "있을 수 있음"을 의미한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 항목 수와 허용 오탐률에 맞춰 비트 수와 해시 개수를 정한다.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions 는 0 보다 커야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate 는 0 과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = Math.max(64, (bits + 63) & ~63L);
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(long h1, long h2) {
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = (combined & Long.MAX_VALUE) % bitCount;
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            if ((words.get(wordIndex) & mask) == 0) {
+                words.getAndAccumulate(wordIndex, mask, (current, bit) -> current | bit);
+            }
+            combined += h2;
+        }
+    }
+
+    public boolean mightContain(long h1, long h2) {
+        long combined = h1;
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = (combined & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+            combined += h2;
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 현재 설정된 비트 수로 추정한 오탐률
+     */
+    public double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitCount, hashCount);
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(bitCount);
+        out.writeInt(hashCount);
+        for (int i = 0; i < words.length(); i++) {
+            out.writeLong(words.get(i));
+        }
+    }
+
+    public static BloomFilter readFrom(DataInputStream in) throws IOException {
+        BloomFilter filter = new BloomFilter(in.readLong(), in.readInt());
+        for (int i = 0; i < filter.words.length(); i++) {
+            filter.words.set(i, in.readLong());
+        }
+        return filter;
+    }
+}
@@ -0,0 +1,362 @@
+package com.ptpt.authservice.util;
+
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 토큰 서명 키 목록 (kid 별)
+ * - 활성화 시각이 지난 가장 최근 키로 서명하고, 목록에 남아있는 모든 키로 검증한다.
+ * - 새 키는 활성화 publish-ahead 전에 미리 만들어 JWKS 로 공개한다 (다운스트림 서비스가 먼저 받아둘 수 있도록).
+ * - 이전 키는 다음 키가 활성화된 뒤 refresh token 수명만큼 지나면(그 키로 서명한 토큰이 모두 만료되면) 삭제한다.
+ * - key-directory 를 지정하면 키를 파일로 저장하고 주기적으로 다시 읽어, 같은 디렉토리를 쓰는 인스턴스끼리 키를 공유한다.
+ *   지정하지 않으면 재시작 / 인스턴스마다 키가 달라져 기존 토큰이 모두 무효가 되므로,
+ *   비대칭 알고리즘은 key-directory 없이 시작하지 않는다 (allow-ephemeral-keys 로 명시한 로컬 / 테스트 환경 제외).
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String KEY_FILE_SUFFIX = ".key";
+    private static final Duration RETENTION_SKEW = Duration.ofMinutes(1);
+
+    private final JwtSigningAlgorithm algorithm;
+    private final SigningKey secretSigningKey;
+    private final boolean acceptLegacyTokens;
+    private final Duration rotationInterval;
+    private final Duration publishAhead;
+    private final Duration retention;
+    private final Path keyDirectory;
+    private final Duration checkInterval;
+
+    /** activatesAt 오름차순 */
+    private volatile List<SigningKey> keys = List.of();
+    private volatile Map<String, SigningKey> keysById = Map.of();
+    private volatile List<Map<String, Object>> publicJwks = List.of();
+
+    private ScheduledExecutorService scheduler;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.signing.algorithm:HS256}") JwtSigningAlgorithm algorithm,
+                      @Value("${jwt.signing.accept-legacy-tokens:true}") boolean acceptLegacyTokens,
+                      @Value("${jwt.signing.rotation-interval:30d}") Duration rotationInterval,
+                      @Value("${jwt.signing.publish-ahead:1h}") Duration publishAhead,
+                      @Value("${jwt.signing.key-directory:}") String keyDirectory,
+                      @Value("${jwt.signing.allow-ephemeral-keys:false}") boolean allowEphemeralKeys,
+                      @Value("${jwt.signing.check-interval:10m}") Duration checkInterval,
+                      @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        if (algorithm.isAsymmetric() && !StringUtils.hasText(keyDirectory) && !allowEphemeralKeys) {
+            throw new IllegalStateException("jwt.signing.algorithm=" + algorithm
+                    + " 은 jwt.signing.key-directory(인스턴스 간 공유 디렉토리)가 필요합니다. "
+                    + "메모리 키로 시작하려면 jwt.signing.allow-ephemeral-keys=true 를 지정하세요.");
+        }
+        if (algorithm.isAsymmetric() && !StringUtils.hasText(keyDirectory)) {
+            log.warn("JWT 서명 키를 메모리에만 보관합니다 - 재시작하면 발급한 토큰이 모두 무효가 됩니다. algorithm: {}", algorithm);
+        }
+
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+        this.algorithm = algorithm;
+        this.secretSigningKey = new SigningKey(null, JwtSigningAlgorithm.HS256, secretKey, secretKey, Instant.EPOCH);
+        this.acceptLegacyTokens = acceptLegacyTokens;
+        this.rotationInterval = rotationInterval;
+        this.publishAhead = publishAhead;
+        this.retention = Duration.ofMillis(refreshTokenExpiration).plus(RETENTION_SKEW);
+        this.keyDirectory = StringUtils.hasText(keyDirectory) ? Path.of(keyDirectory) : null;
+        this.checkInterval = checkInterval;
+
+        // 생성 직후부터 서명할 수 있도록 첫 키는 여기서 준비한다
+        if (algorithm.isAsymmetric()) {
+            rotateIfNeeded();
+        }
+    }
+
+    /**
+     * 기본 주기로 동작하는 메모리 키 목록 (벤치마크 / 테스트용)
+     */
+    public static JwtKeyRing of(JwtSigningAlgorithm algorithm, String secret) {
+        return new JwtKeyRing(secret, algorithm, true, Duration.ofDays(30), Duration.ofHours(1),
+                "", true, Duration.ofMinutes(10), Duration.ofDays(7).toMillis());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!algorithm.isAsymmetric()) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwt-key-rotation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rotateSafely,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 지금 서명에 사용할 키 (활성화 시각이 지난 키 중 가장 최근 키)
+     */
+    public SigningKey currentSigningKey() {
+        if (!algorithm.isAsymmetric()) {
+            return secretSigningKey;
+        }
+
+        Instant now = Instant.now();
+        List<SigningKey> snapshot = keys;
+        SigningKey current = null;
+        for (SigningKey key : snapshot) {
+            if (key.algorithm() != algorithm) {
+                continue;
+            }
+            if (current == null || !key.activatesAt().isAfter(now)) {
+                current = key;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * kid 에 해당하는 검증 키 (없으면 null)
+     * - kid 가 없는 토큰은 jwt.secret 으로 서명된 기존 토큰으로 보고, 허용하는 경우에만 secret 키를 돌려준다.
+     */
+    public Key findVerificationKey(String kid) {
+        if (kid == null) {
+            return !algorithm.isAsymmetric() || acceptLegacyTokens ? secretSigningKey.verificationKey() : null;
+        }
+        SigningKey key = keysById.get(kid);
+        return key != null ? key.verificationKey() : null;
+    }
+
+    /**
+     * JWKS 로 공개할 공개키 목록 (아직 활성화되지 않은 다음 키 포함)
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        return publicJwks;
+    }
+
+    /**
+     * 다음 키 생성 / 만료된 키 삭제
+     */
+    synchronized void rotateIfNeeded() {
+        Instant now = Instant.now();
+
+        Map<String, SigningKey> merged = new HashMap<>(keysById);
+        for (SigningKey key : loadKeyFiles()) {
+            merged.putIfAbsent(key.kid(), key);
+        }
+        List<SigningKey> sorted = new ArrayList<>(merged.values());
+        sorted.sort(Comparator.comparing(SigningKey::activatesAt));
+
+        SigningKey newest = sorted.stream()
+                .filter(key -> key.algorithm() == algorithm)
+                .reduce((first, second) -> second)
+                .orElse(null);
+
+        if (newest == null) {
+            // 첫 키 (또는 알고리즘 변경) 는 바로 사용한다
+            sorted.add(generate(now));
+        } else {
+            Instant nextActivation = newest.activatesAt().plus(rotationInterval);
+            if (!now.isBefore(nextActivation.minus(publishAhead))) {
+                Instant publishedAt = now.plus(publishAhead);
+                sorted.add(generate(nextActivation.isAfter(publishedAt) ? nextActivation : publishedAt));
+            }
+        }
+
+        List<SigningKey> retained = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            SigningKey key = sorted.get(i);
+            SigningKey successor = i + 1 < sorted.size() ? sorted.get(i + 1) : null;
+            if (successor != null && !successor.activatesAt().plus(retention).isAfter(now)) {
+                deleteKeyFile(key);
+                log.info("서명 키 삭제 - kid: {}", key.kid());
+                continue;
+            }
+            retained.add(key);
+        }
+
+        keys = List.copyOf(retained);
+        keysById = retained.stream().collect(Collectors.toUnmodifiableMap(SigningKey::kid, Function.identity()));
+        publicJwks = retained.stream().map(JwtKeyRing::toJwk).toList();
+    }
+
+    private void rotateSafely() {
+        try {
+            rotateIfNeeded();
+        } catch (Exception e) {
+            log.error("서명 키 교체 실패", e);
+        }
+    }
+
+    private SigningKey generate(Instant activatesAt) {
+        KeyPair keyPair = algorithm.generateKeyPair();
+        String kid = Jwks.builder().key(keyPair.getPublic()).idFromThumbprint().build().getId();
+
+        SigningKey key = new SigningKey(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic(), activatesAt);
+        writeKeyFile(key);
+        log.info("서명 키 생성 - kid: {}, alg: {}, activatesAt: {}", kid, algorithm, activatesAt);
+        return key;
+    }
+
+    private static Map<String, Object> toJwk(SigningKey key) {
+        return new LinkedHashMap<>(Jwks.builder().key((PublicKey) key.verificationKey())
+                .id(key.kid())
+                .algorithm(key.algorithm().name())
+                .publicKeyUse("sig")
+                .build());
+    }
+
+    // ===== 키 파일 =====
+
+    private List<SigningKey> loadKeyFiles() {
+        if (keyDirectory == null || !Files.isDirectory(keyDirectory)) {
+            return List.of();
+        }
+
+        List<SigningKey> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(keyDirectory, "*" + KEY_FILE_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    loaded.add(readKeyFile(file));
+                } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+                    log.warn("서명 키 파일을 읽지 못했습니다 - file: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("서명 키 디렉토리를 읽지 못했습니다 - dir: {}", keyDirectory, e);
+        }
+        return loaded;
+    }
+
+    private SigningKey readKeyFile(Path file) throws IOException, GeneralSecurityException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+
+        JwtSigningAlgorithm keyAlgorithm = JwtSigningAlgorithm.valueOf(properties.getProperty("alg"));
+        KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm.getKeyFactoryAlgorithm());
+        Base64.Decoder decoder = Base64.getDecoder();
+
+        return new SigningKey(
+                properties.getProperty("kid"),
+                keyAlgorithm,
+                keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decoder.decode(properties.getProperty("private")))),
+                keyFactory.generatePublic(new X509EncodedKeySpec(decoder.decode(properties.getProperty("public")))),
+                Instant.parse(properties.getProperty("activatesAt"))
+        );
+    }
+
+    private void writeKeyFile(SigningKey key) {
+        if (keyDirectory == null) {
+            return;
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("kid", key.kid());
+        properties.setProperty("alg", key.algorithm().name());
+        properties.setProperty("activatesAt", key.activatesAt().toString());
+        properties.setProperty("private", Base64.getEncoder().encodeToString(key.signingKey().getEncoded()));
+        properties.setProperty("public", Base64.getEncoder().encodeToString(key.verificationKey().getEncoded()));
+
+        try {
+            Files.createDirectories(keyDirectory);
+            Path tmp = Files.createTempFile(keyDirectory, key.kid(), ".tmp");
+            try {
+                Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException ignored) {
+                // POSIX 권한을 지원하지 않는 파일 시스템
+            }
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, null);
+            }
+            Files.move(tmp, keyFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 파일에 쓰지 못해도 이 인스턴스에서는 계속 사용한다
+            log.error("서명 키 파일 저장 실패 - kid: {}", key.kid(), e);
+        }
+    }
+
+    private void deleteKeyFile(SigningKey key) {
+        if (keyDirectory == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(keyFile(key));
+        } catch (IOException e) {
+            log.warn("서명 키 파일 삭제 실패 - kid: {}", key.kid(), e);
+        }
+    }
+
+    private Path keyFile(SigningKey key) {
+        return keyDirectory.resolve(key.kid() + KEY_FILE_SUFFIX);
+    }
+
+    /**
+     * 서명 키
+     *
+     * @param kid             JWT 헤더의 kid (jwt.secret 키는 null)
+     * @param signingKey      서명 키 (비대칭이면 개인키)
+     * @param verificationKey 검증 키 (비대칭이면 공개키)
+     * @param activatesAt     이 시각부터 서명에 사용
+     */
+    public record SigningKey(String kid,
+                             JwtSigningAlgorithm algorithm,
+                             Key signingKey,
+                             Key verificationKey,
+                             Instant activatesAt) {
+
+        @SuppressWarnings("unchecked")
+        public SecureDigestAlgorithm<Key, ?> jwa() {
+            return (SecureDigestAlgorithm<Key, ?>) algorithm.getJwa();
+        }
+    }
+}
@@ -1,47 +1,56 @@
 package com.ptpt.authservice.util;
 
+import com.ptpt.authclient.AuthTokenClaims;
 import com.ptpt.authservice.dto.TempUserInfo;
 import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.TokenType;
 import com.ptpt.authservice.exception.token.*;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtUtil {
 
-    private static final String TOKEN_TYPE_KEY = "tokenType";
-    private static final String TOKEN_TYPE_ACCESS = "ACCESS";
-    private static final String TOKEN_TYPE_REFRESH = "REFRESH";
-    private static final String TOKEN_TYPE_TEMP = "TEMP";
+    // 클레임 이름은 다운스트림 서비스의 검증 모듈(auth-client)과 공유한다
+    static final String TOKEN_TYPE_KEY = AuthTokenClaims.TOKEN_TYPE;
+    static final String TOKEN_VERSION_KEY = AuthTokenClaims.TOKEN_VERSION;
+    static final String USER_ID_KEY = AuthTokenClaims.USER_ID;
+    static final String NICKNAME_KEY = AuthTokenClaims.NICKNAME;
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing jwtKeyRing;
     private final JwtParser jwtParser;
 
-    @Value("${jwt.access-token-expiration}")
-    private long accessTokenExpiration;
+    private final long accessTokenExpiration;
+    private final long refreshTokenExpiration;
+    private final long tempTokenExpiration;
 
-    @Value("${jwt.refresh-token-expiration}")
-    private long refreshTokenExpiration;
+    /** Access Token 에 담기는 클레임 구성 버전 (클레임 구성이 바뀌면 올린다) */
+    private final int tokenVersion;
 
-    @Value("${jwt.temp-token-expiration:1800000}")
-    private long tempTokenExpiration;
-
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtUtil(JwtKeyRing jwtKeyRing,
+                   @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+                   @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+                   @Value("${jwt.temp-token-expiration:1800000}") long tempTokenExpiration,
+                   @Value("${jwt.token-version:1}") int tokenVersion) {
+        this.jwtKeyRing = jwtKeyRing;
+        // 헤더의 kid 로 검증 키를 고른다 (키 교체 중에는 이전 키로 서명한 토큰도 검증)
         this.jwtParser = Jwts.parser()
-                .setSigningKey(secretKey)
+                .keyLocator(this::locateVerificationKey)
                 .build();
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.tempTokenExpiration = tempTokenExpiration;
+        this.tokenVersion = tokenVersion;
     }
 
     // ===== Access Token Methods =====
@@ -68,9 +77,10 @@ public class JwtUtil {
      */
     public String generateAccessToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put(TOKEN_TYPE_KEY, TOKEN_TYPE_ACCESS);
-        claims.put("userId", user.getId());
-        claims.put("nickname", user.getNickname());
+        claims.put(TOKEN_TYPE_KEY, TokenType.ACCESS.name());
+        claims.put(USER_ID_KEY, user.getId());
+        claims.put(NICKNAME_KEY, user.getNickname());
+        claims.put(TOKEN_VERSION_KEY, tokenVersion);
         return createToken(user.getEmail(), claims, accessTokenExpiration);
     }
 
@@ -98,7 +108,7 @@ public class JwtUtil {
      */
     public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put(TOKEN_TYPE_KEY, TOKEN_TYPE_REFRESH);
+        claims.put(TOKEN_TYPE_KEY, TokenType.REFRESH.name());
         return createToken(user.getEmail(), claims, refreshTokenExpiration);
     }
 
@@ -109,11 +119,11 @@ public class JwtUtil {
      */
     public String generateTempToken(TempUserInfo tempUserInfo) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put(TOKEN_TYPE_KEY, TOKEN_TYPE_TEMP);
+        claims.put(TOKEN_TYPE_KEY, TokenType.TEMP.name());
         claims.put("email", tempUserInfo.getEmail());
         claims.put("socialId", tempUserInfo.getSocialId());
         claims.put("socialType", tempUserInfo.getSocialType().name());
-        claims.put("nickname", tempUserInfo.getNickname());
+        claims.put(NICKNAME_KEY, tempUserInfo.getNickname());
         claims.put("profileImageUrl", tempUserInfo.getProfileImageUrl());
 
         log.debug("임시 토큰 생성 - email: {}", tempUserInfo.getEmail());
@@ -124,27 +134,18 @@ public class JwtUtil {
      * Temp Token으로부터 임시 사용자 정보 추출
      */
     public TempUserInfo extractTempUserInfo(String tempToken) {
-        validateTempToken(tempToken);
-
-        Claims claims = extractAllClaims(tempToken);
-        return TempUserInfo.builder()
-                .email(claims.get("email", String.class))
-                .socialId(claims.get("socialId", String.class))
-                .socialType(User.SocialType.valueOf(claims.get("socialType", String.class)))
-                .nickname(claims.get("nickname", String.class))
-                .profileImageUrl(claims.get("profileImageUrl", String.class))
-                .build();
+        return verify(tempToken).toTempUserInfo();
     }
 
     // ===== Token Validation Methods =====
 
     /**
-     * 토큰 유효성 검증
+     * 토큰 서명/만료 검증 후 클레임을 담은 VerifiedToken 반환
+     * - 요청 하나에서 토큰 파싱은 이 메서드 한 번으로 끝내고, 이후 처리는 VerifiedToken 으로 한다.
      */
-    public boolean validateToken(String token) {
+    public VerifiedToken verify(String token) {
         try {
-            jwtParser.parseClaimsJws(token);
-            return true;
+            return new VerifiedToken(token, jwtParser.parseSignedClaims(token).getPayload());
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰");
             throw new ExpiredTokenException();
@@ -163,78 +164,6 @@ public class JwtUtil {
         }
     }
 
-    /**
-     * Access Token인지 확인
-     */
-    public boolean isAccessToken(String token) {
-        try {
-            Claims claims = extractAllClaims(token);
-            return TOKEN_TYPE_ACCESS.equals(claims.get(TOKEN_TYPE_KEY));
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Refresh Token인지 확인
-     */
-    public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = extractAllClaims(token);
-            return TOKEN_TYPE_REFRESH.equals(claims.get(TOKEN_TYPE_KEY));
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Temp Token인지 확인
-     */
-    public boolean isTempToken(String token) {
-        try {
-            Claims claims = extractAllClaims(token);
-            return TOKEN_TYPE_TEMP.equals(claims.get(TOKEN_TYPE_KEY));
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    // ===== Token Information Extraction Methods =====
-
-    /**
-     * 토큰에서 이메일(subject) 추출
-     */
-    public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    /**
-     * 토큰에서 만료 시간 추출
-     */
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    /**
-     * 토큰에서 특정 claim 추출
-     */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    /**
-     * 토큰 만료 여부 확인
-     */
-    public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = extractExpiration(token);
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
-    }
-
     // ===== Private Helper Methods =====
 
     /**
@@ -244,45 +173,31 @@ public class JwtUtil {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
-    }
-
-    /**
-     * 토큰에서 모든 Claims 추출
-     */
-    private Claims extractAllClaims(String token) {
-        try {
-            return jwtParser
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            throw new ExpiredTokenException();
-        } catch (UnsupportedJwtException e) {
-            throw new UnsupportedTokenException();
-        } catch (MalformedJwtException e) {
-            throw new MalformedTokenException();
-        } catch (SignatureException e) {
-            throw new InvalidSignatureTokenException();
-        } catch (JwtException e) {
-            throw new InvalidTokenException();
+        JwtKeyRing.SigningKey signingKey = jwtKeyRing.currentSigningKey();
+        JwtBuilder builder = Jwts.builder();
+        if (signingKey.kid() != null) {
+            builder.header().keyId(signingKey.kid()).and();
         }
+
+        return builder
+                .claims(claims)
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey.signingKey(), signingKey.jwa())
+                .compact();
     }
 
     /**
-     * Temp Token 검증
+     * 헤더의 kid 에 해당하는 검증 키 (kid 가 없으면 jwt.secret 으로 서명된 기존 토큰)
      */
-    private void validateTempToken(String token) {
-        if (!isTempToken(token)) {
-            throw new InvalidTokenException("임시 토큰이 아닙니다.");
-        }
-        if (isTokenExpired(token)) {
-            throw new ExpiredTokenException("만료된 임시 토큰입니다.");
+    private Key locateVerificationKey(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        Key key = jwtKeyRing.findVerificationKey(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("등록되지 않은 서명 키입니다. kid: " + kid);
         }
+        return key;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.ptpt.authservice.util;
+
+/**
+ * 로그에 남기는 개인정보 / 비밀값 마스킹
+ * - 토큰은 내용 없이 길이만, 이메일은 로컬 파트 앞 두 글자와 도메인만 남긴다.
+ */
+public final class LogMasking {
+
+    private LogMasking() {
+    }
+
+    /**
+     * 토큰(액세스 토큰, identity token 등)은 일부라도 남기지 않는다.
+     */
+    public static String token(String token) {
+        return token == null ? null : "[REDACTED len=" + token.length() + "]";
+    }
+
+    /**
+     * user@example.com -> us***@example.com
+     */
+    public static String email(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        if (at < 0) {
+            return "***";
+        }
+        return email.substring(0, Math.min(2, at)) + "***" + email.substring(at);
+    }
+}
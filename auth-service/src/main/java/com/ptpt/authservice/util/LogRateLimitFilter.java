@@ -0,0 +1,92 @@
+package com.ptpt.authservice.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로거별 로그 속도 제한 (logback TurboFilter, logback-spring.xml 의 prod 프로필에서 등록)
+ * - loggerPrefix 로 시작하는 로거의 maxLevel 이하 로그를 로거마다 초당 permitsPerSecond 개(순간 burst 개)까지만 남긴다.
+ * - maxLevel 보다 높은 로그(WARN / ERROR 등)는 제한하지 않는다.
+ * - 이벤트 객체를 만들기 전에 판단하므로 버려지는 로그는 포맷팅 / 큐 적재 비용이 없다.
+ */
+public class LogRateLimitFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.ptpt";
+    private Level maxLevel = Level.INFO;
+    private int permitsPerSecond = 20;
+    private int burst = 50;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format 이 없으면 isXxxEnabled() 호출 -> 실제 로그가 아니므로 토큰을 쓰지 않는다
+        if (!isStarted() || format == null || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+        if (level.toInt() > maxLevel.toInt() || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨 설정으로 어차피 버려질 로그는 토큰을 쓰지 않는다 (isEnabledFor 는 TurboFilter 를 다시 호출하므로 사용하지 않음)
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        TokenBucket bucket = buckets.computeIfAbsent(logger.getName(), name -> newBucket());
+        if (bucket.tryConsume(TokenBucket.now()) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        dropped.increment();
+        return FilterReply.DENY;
+    }
+
+    private TokenBucket newBucket() {
+        // burst 개를 모두 채우는 데 걸리는 시간 = burst / permitsPerSecond 초
+        return new TokenBucket(burst, Duration.ofNanos(burst * 1_000_000_000L / permitsPerSecond));
+    }
+
+    @Override
+    public void start() {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            addError("permitsPerSecond 와 burst 는 0보다 커야 합니다.");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (dropped.sum() > 0) {
+            addInfo("속도 제한으로 버린 로그 수: " + dropped.sum());
+        }
+        super.stop();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+}
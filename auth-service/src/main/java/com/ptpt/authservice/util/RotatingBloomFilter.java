@@ -0,0 +1,125 @@
+package com.ptpt.authservice.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 만료 시각 구간(slice)별로 나눈 Bloom filter
+ * - 항목은 만료 시각이 속한 구간의 필터에 들어가고, 구간이 지나면 그 필터를 통째로 버린다.
+ * - 따라서 만료된 항목 때문에 오탐률이 계속 올라가지 않는다.
+ */
+public class RotatingBloomFilter {
+
+    private static final int SNAPSHOT_MAGIC = 0x52424631; // "RBF1"
+
+    private final long sliceMillis;
+    private final long expectedInsertionsPerSlice;
+    private final double falsePositiveRate;
+    private final AtomicReferenceArray<Slice> slices;
+
+    /**
+     * @param retentionMillis            항목을 보관해야 하는 최대 기간 (토큰 최대 수명)
+     * @param sliceCount                 구간 수 (많을수록 만료 항목이 빨리 빠진다)
+     * @param expectedInsertionsPerSlice 구간 하나에 들어올 것으로 예상하는 항목 수
+     */
+    public RotatingBloomFilter(long retentionMillis, int sliceCount,
+                               long expectedInsertionsPerSlice, double falsePositiveRate) {
+        if (sliceCount < 2) {
+            throw new IllegalArgumentException("sliceCount 는 2 이상이어야 합니다: " + sliceCount);
+        }
+        this.sliceMillis = Math.max(1, (retentionMillis + sliceCount - 2) / (sliceCount - 1));
+        this.expectedInsertionsPerSlice = expectedInsertionsPerSlice;
+        this.falsePositiveRate = falsePositiveRate;
+        this.slices = new AtomicReferenceArray<>(sliceCount);
+    }
+
+    public void put(long h1, long h2, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        // 보관 기간보다 긴 만료 시각은 마지막 구간에 넣는다
+        long maxExpiresAt = now + sliceMillis * (slices.length() - 1);
+        long bucket = Math.min(expiresAtMillis, maxExpiresAt) / sliceMillis;
+        sliceFor(bucket).filter().put(h1, h2);
+    }
+
+    public boolean mightContain(long h1, long h2) {
+        long currentBucket = System.currentTimeMillis() / sliceMillis;
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice != null && slice.bucket() >= currentBucket && slice.filter().mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 살아있는 구간들의 추정 오탐률 합
+     */
+    public double expectedFalsePositiveRate() {
+        long currentBucket = System.currentTimeMillis() / sliceMillis;
+        double rate = 0;
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice != null && slice.bucket() >= currentBucket) {
+                rate += slice.filter().expectedFalsePositiveRate();
+            }
+        }
+        return Math.min(1.0, rate);
+    }
+
+    private Slice sliceFor(long bucket) {
+        int index = (int) Math.floorMod(bucket, (long) slices.length());
+        while (true) {
+            Slice slice = slices.get(index);
+            if (slice != null && slice.bucket() == bucket) {
+                return slice;
+            }
+            if (slice != null && slice.bucket() > bucket) {
+                // 이미 다음 주기 구간으로 넘어간 경우 (만료된 항목) - 버려도 되는 필터를 돌려준다
+                return new Slice(bucket, BloomFilter.create(1, falsePositiveRate));
+            }
+            Slice created = new Slice(bucket, BloomFilter.create(expectedInsertionsPerSlice, falsePositiveRate));
+            if (slices.compareAndSet(index, slice, created)) {
+                return created;
+            }
+        }
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeLong(sliceMillis);
+        out.writeInt(slices.length());
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            out.writeBoolean(slice != null);
+            if (slice != null) {
+                out.writeLong(slice.bucket());
+                slice.filter().writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * 저장해 둔 스냅샷 복원 (구간 설정이 다르면 false)
+     */
+    public boolean restoreFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readLong() != sliceMillis || in.readInt() != slices.length()) {
+            return false;
+        }
+        for (int i = 0; i < slices.length(); i++) {
+            if (in.readBoolean()) {
+                long bucket = in.readLong();
+                slices.set(i, new Slice(bucket, BloomFilter.readFrom(in)));
+            }
+        }
+        return true;
+    }
+
+    private record Slice(long bucket, BloomFilter filter) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.ptpt.authservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 변경할 수 없는 정렬된 문자열 집합
+ * - 모든 값을 UTF-8 바이트 배열 하나에 이어 붙이고 시작 위치만 int 배열로 보관한다 (String 객체 대비 1/3 정도 크기).
+ * - UTF-8 바이트의 부호 없는 사전순은 코드 포인트 순서와 같으므로 바이트 그대로 이진 탐색한다.
+ */
+public class SortedStringSet {
+
+    private static final SortedStringSet EMPTY = new SortedStringSet(new byte[0], new int[]{0});
+
+    private final byte[] data;
+    private final int[] offsets; // i 번째 값은 data[offsets[i], offsets[i + 1])
+
+    private SortedStringSet(byte[] data, int[] offsets) {
+        this.data = data;
+        this.offsets = offsets;
+    }
+
+    public static SortedStringSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 중복을 제거하고 정렬해서 만든다.
+     */
+    public static SortedStringSet of(Collection<String> values) {
+        byte[][] encoded = new byte[values.size()][];
+        int index = 0;
+        for (String value : values) {
+            encoded[index++] = value.getBytes(StandardCharsets.UTF_8);
+        }
+        Arrays.sort(encoded, Arrays::compareUnsigned);
+
+        int count = 0;
+        long totalLength = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            if (i == 0 || !Arrays.equals(encoded[i - 1], encoded[i])) {
+                encoded[count++] = encoded[i];
+                totalLength += encoded[i].length;
+            }
+        }
+
+        byte[] data = new byte[Math.toIntExact(totalLength)];
+        int[] offsets = new int[count + 1];
+        int position = 0;
+        for (int i = 0; i < count; i++) {
+            offsets[i] = position;
+            System.arraycopy(encoded[i], 0, data, position, encoded[i].length);
+            position += encoded[i].length;
+        }
+        offsets[count] = position;
+        return new SortedStringSet(data, offsets);
+    }
+
+    public boolean contains(String value) {
+        byte[] key = value.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = Arrays.compareUnsigned(data, offsets[mid], offsets[mid + 1], key, 0, key.length);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * 보관 중인 배열 크기 (바이트)
+     */
+    public long sizeInBytes() {
+        return data.length + (long) offsets.length * Integer.BYTES;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ptpt.authservice.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷 (GCRA)
+ * - 상태는 "다음 토큰이 생기는 이론상 시각"(TAT) 하나뿐이라 AtomicLong CAS 한 번으로 소비한다.
+ * - capacity 만큼 연속 요청을 허용하고, 이후에는 refillPeriod / capacity 마다 한 번씩 허용한다.
+ */
+public final class TokenBucket {
+
+    private static final long ORIGIN = System.nanoTime();
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong();
+
+    public TokenBucket(int capacity, Duration refillPeriod) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+
+    public static long now() {
+        return System.nanoTime() - ORIGIN;
+    }
+
+    /**
+     * 토큰 하나 소비
+     * @return 허용이면 0, 거부면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long base = Math.max(arrival, nowNanos);
+            long allowedAt = base - burstToleranceNanos;
+            if (nowNanos < allowedAt) {
+                return allowedAt - nowNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryConsume 으로 소비한 토큰 하나를 되돌린다 (함께 확인한 다른 버킷이 거부해 요청이 처리되지 않은 경우)
+     */
+    public void refund() {
+        theoreticalArrivalNanos.addAndGet(-emissionIntervalNanos);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ptpt.authservice.util;
+
+import com.ptpt.authservice.dto.TempUserInfo;
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.TokenType;
+import com.ptpt.authservice.exception.token.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 서명 검증을 마친 JWT
+ * - JwtUtil.verify 에서 한 번만 파싱하여 생성하며, 이후에는 다시 파싱하지 않고 이 값으로 처리한다.
+ */
+@Getter
+public class VerifiedToken {
+
+    private final String token;
+    private final TokenType type;
+    private final String id;
+    private final String subject;
+    private final Date expiration;
+    private final Claims claims;
+
+    VerifiedToken(String token, Claims claims) {
+        this.token = token;
+        this.type = TokenType.fromClaim(claims.get(JwtUtil.TOKEN_TYPE_KEY));
+        this.id = claims.getId();
+        this.subject = claims.getSubject();
+        this.expiration = claims.getExpiration();
+        this.claims = claims;
+    }
+
+    public boolean isAccessToken() {
+        return type == TokenType.ACCESS;
+    }
+
+    public boolean isRefreshToken() {
+        return type == TokenType.REFRESH;
+    }
+
+    public boolean isTempToken() {
+        return type == TokenType.TEMP;
+    }
+
+    public Long getUserId() {
+        Object userId = claims.get(JwtUtil.USER_ID_KEY);
+        return userId instanceof Number number ? number.longValue() : null;
+    }
+
+    public String getNickname() {
+        return claims.get(JwtUtil.NICKNAME_KEY, String.class);
+    }
+
+    public Integer getTokenVersion() {
+        Object version = claims.get(JwtUtil.TOKEN_VERSION_KEY);
+        return version instanceof Number number ? number.intValue() : null;
+    }
+
+    public <T> T getClaim(String name, Class<T> requiredType) {
+        return claims.get(name, requiredType);
+    }
+
+    /**
+     * Access Token 클레임만으로 인증 주체(User) 구성
+     * - userId / nickname 클레임이 없거나 토큰 버전이 minTokenVersion 보다 낮으면 비어있는 값을 반환한다.
+     */
+    public Optional<User> toPrincipal(int minTokenVersion) {
+        Long userId = getUserId();
+        Integer version = getTokenVersion();
+        String nickname = getNickname();
+
+        if (!isAccessToken() || userId == null || version == null || nickname == null || subject == null) {
+            return Optional.empty();
+        }
+        if (version < minTokenVersion) {
+            return Optional.empty();
+        }
+
+        return Optional.of(User.builder()
+                .id(userId)
+                .email(subject)
+                .nickname(nickname)
+                .build());
+    }
+
+    /**
+     * Temp Token 클레임으로부터 임시 사용자 정보 추출
+     */
+    public TempUserInfo toTempUserInfo() {
+        if (!isTempToken()) {
+            throw new InvalidTokenException("임시 토큰이 아닙니다.");
+        }
+
+        return TempUserInfo.builder()
+                .email(claims.get("email", String.class))
+                .socialId(claims.get("socialId", String.class))
+                .socialType(User.SocialType.valueOf(claims.get("socialType", String.class)))
+                .nickname(claims.get(JwtUtil.NICKNAME_KEY, String.class))
+                .profileImageUrl(claims.get("profileImageUrl", String.class))
+                .build();
+    }
+}
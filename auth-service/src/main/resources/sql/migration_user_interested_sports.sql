@@ -0,0 +1,17 @@
+-- users.interested_sports (JSON 배열 문자열) -> user_interested_sports 이관 (MySQL 8.0+)
+-- - 테이블은 ddl-auto 로 생성되므로 데이터만 옮긴다. 여러 번 실행해도 이미 옮긴 사용자는 건너뛴다.
+-- - 이관하지 않은 사용자도 조회 시 JSON 을 읽어 쓰고 다음 저장 때 옮겨지지만, 스포츠별 조회에는 이관 후에만 나타난다.
+
+INSERT INTO user_interested_sports (user_id, sort_order, sport)
+SELECT u.id, jt.ord - 1, jt.sport
+FROM users u
+         JOIN JSON_TABLE(u.interested_sports, '$[*]'
+                         COLUMNS (ord FOR ORDINALITY, sport VARCHAR(30) PATH '$')) jt
+WHERE u.interested_sports IS NOT NULL
+  AND JSON_VALID(u.interested_sports)
+  AND NOT EXISTS (SELECT 1 FROM user_interested_sports s WHERE s.user_id = u.id);
+
+UPDATE users u
+SET u.interested_sports = NULL
+WHERE u.interested_sports IS NOT NULL
+  AND EXISTS (SELECT 1 FROM user_interested_sports s WHERE s.user_id = u.id);
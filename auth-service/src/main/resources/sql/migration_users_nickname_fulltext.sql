@@ -0,0 +1,10 @@
+-- users.nickname n-gram 전문 인덱스 추가 (MySQL 8.0+, GET /api/users/search?mode=CONTAINS)
+-- - ddl-auto 는 FULLTEXT 인덱스를 만들지 않으므로 배포 전에 한 번 실행한다.
+-- - ngram_token_size 는 서버 시작 옵션이다 (기본 2). 바꾸면 인덱스를 다시 만들고 user-search.nickname.min-contains-length 도 맞춘다.
+-- - 기본 불용어 목록(a, is, the ...)을 포함하는 n-gram 은 색인되지 않으므로 인덱스를 만드는 세션에서 불용어를 끈다.
+-- - 테이블의 첫 FULLTEXT 인덱스는 FTS_DOC_ID 컬럼을 추가하며 테이블을 다시 만든다 (쓰기 차단, 트래픽이 적을 때 실행).
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE users
+    ADD FULLTEXT INDEX ftx_users_nickname (nickname) WITH PARSER ngram;
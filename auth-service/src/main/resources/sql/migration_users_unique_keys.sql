@@ -0,0 +1,35 @@
+-- users unique 키 이름 정리 (MySQL 8.0+)
+-- - 가입은 중복 확인 조회 없이 INSERT 하고 위반된 키 이름(uk_users_email / uk_users_nickname / uk_users_social_account)으로
+--   원인을 구분한다. 이전에 ddl-auto 가 만든 이름 없는 unique 키(UK...)가 남아 있으면 그 키가 먼저 위반되어 구분할 수 없으므로 지운다.
+-- - unique 키가 조회 인덱스 역할도 하므로 같은 컬럼의 일반 인덱스도 함께 지운다 (쓰기마다 갱신할 인덱스가 줄어든다).
+-- - 여러 번 실행해도 된다. 새 버전 배포 전에 실행한다.
+
+-- 1. 이름 있는 unique 키 추가 (이미 있으면 건너뜀, 중복 데이터가 있으면 실패하므로 먼저 정리)
+SET @add_sql = (
+    SELECT CONCAT('ALTER TABLE users ', GROUP_CONCAT(c.ddl SEPARATOR ', '))
+    FROM (SELECT 'uk_users_email' AS name, 'ADD CONSTRAINT uk_users_email UNIQUE (email)' AS ddl
+          UNION ALL SELECT 'uk_users_nickname', 'ADD CONSTRAINT uk_users_nickname UNIQUE (nickname)'
+          UNION ALL SELECT 'uk_users_social_account', 'ADD CONSTRAINT uk_users_social_account UNIQUE (social_id, social_type)') c
+    WHERE c.name NOT IN (SELECT index_name FROM information_schema.statistics
+                         WHERE table_schema = DATABASE() AND table_name = 'users')
+);
+SET @add_sql = IFNULL(@add_sql, 'DO 0');
+PREPARE stmt FROM @add_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. 이름 없는 unique 키(Hibernate: UK..., 컬럼 UNIQUE: email / nickname)와 중복 인덱스 삭제
+SET @drop_sql = (
+    SELECT CONCAT('ALTER TABLE users ', GROUP_CONCAT(CONCAT('DROP INDEX `', i.index_name, '`') SEPARATOR ', '))
+    FROM (SELECT DISTINCT index_name FROM information_schema.statistics
+          WHERE table_schema = DATABASE() AND table_name = 'users'
+            AND index_name NOT IN ('uk_users_email', 'uk_users_nickname', 'uk_users_social_account')
+            AND (index_name LIKE 'UK%'
+                OR index_name IN ('email', 'nickname',
+                                  'idx_user_email', 'idx_user_nickname', 'idx_user_social',
+                                  'idx_users_email', 'idx_users_nickname', 'idx_users_social_info'))) i
+);
+SET @drop_sql = IFNULL(@drop_sql, 'DO 0');
+PREPARE stmt FROM @drop_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -9,8 +9,8 @@ CREATE TABLE users (
    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '사용자 고유 ID',
 
     -- 공통 사용자 정보
-   email VARCHAR(255) NOT NULL UNIQUE COMMENT '사용자 이메일 (로그인 ID로 사용)',
-   nickname VARCHAR(30) NOT NULL UNIQUE COMMENT '사용자 닉네임 (표시명)',
+   email VARCHAR(255) NOT NULL COMMENT '사용자 이메일 (로그인 ID로 사용)',
+   nickname VARCHAR(30) NOT NULL COMMENT '사용자 닉네임 (표시명)',
 
     -- 일반 로그인 사용자 전용 (소셜 사용자는 NULL)
    password VARCHAR(255) NULL COMMENT '암호화된 비밀번호 (소셜 사용자는 NULL)',
@@ -23,7 +23,7 @@ CREATE TABLE users (
     -- 추가된 프로필 정보
    birth_date DATE NULL COMMENT '생년월일',
    location VARCHAR(100) NULL COMMENT '거주지 (시/도 단위)',
-   interested_sports TEXT NULL COMMENT '관심 스포츠 (JSON 배열 형태로 저장)',
+   interested_sports TEXT NULL COMMENT '(이전 형식) 관심 스포츠 JSON 배열 - user_interested_sports 로 이관 후 NULL',
 
     -- 소셜 로그인 정보 (일반 사용자는 NULL)
    social_id VARCHAR(100) NULL COMMENT '소셜 플랫폼 사용자 ID',
@@ -50,13 +50,12 @@ CREATE TABLE users (
    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '계정 생성일시',
    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 수정일시',
 
-    -- 인덱스 설정
-   INDEX idx_users_email (email) COMMENT '이메일 조회 최적화',
-   INDEX idx_users_nickname (nickname) COMMENT '닉네임 조회 최적화',
-   INDEX idx_users_social_info (social_id, social_type) COMMENT '소셜 정보 조회 최적화',
+    -- 인덱스 설정 (이메일 / 닉네임 / 소셜 정보 조회는 아래 unique 키를 사용)
    INDEX idx_users_user_type (user_type) COMMENT '사용자 타입별 조회 최적화',
    INDEX idx_users_created_at (created_at) COMMENT '가입일시 정렬 최적화',
    INDEX idx_users_last_login (last_login_at) COMMENT '마지막 로그인 정렬 최적화',
+   INDEX idx_user_location (location, id) COMMENT '지역별 사용자 조회 최적화',
+   FULLTEXT INDEX ftx_users_nickname (nickname) WITH PARSER ngram COMMENT '닉네임 부분 일치 검색 (ngram_token_size=2, 기존 테이블은 migration_users_nickname_fulltext.sql)',
 
     -- 제약 조건
 --    CONSTRAINT chk_users_user_type CHECK (user_type IN ('NORMAL', 'SOCIAL')),
@@ -70,10 +69,24 @@ CREATE TABLE users (
 --        (user_type = 'SOCIAL' AND social_id IS NOT NULL AND social_type IS NOT NULL)
 --        ),
 
-    -- 소셜 계정 중복 방지 (같은 소셜 플랫폼의 같은 ID는 하나만 존재)
+    -- 중복 방지 (가입 시 중복 확인 조회 없이 INSERT 하고 위반된 키 이름으로 원인을 구분하므로 이름을 바꾸지 않는다)
+   UNIQUE KEY uk_users_email (email),
+   UNIQUE KEY uk_users_nickname (nickname),
+   -- 소셜 계정 중복 방지 (같은 소셜 플랫폼의 같은 ID는 하나만 존재)
    UNIQUE KEY uk_users_social_account (social_id, social_type)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 정보 통합 테이블';
 
+-- 관심 스포츠 (users.interested_sports JSON 컬럼을 대체, 기존 데이터 이관은 migration_user_interested_sports.sql)
+CREATE TABLE user_interested_sports (
+   user_id BIGINT NOT NULL COMMENT '사용자 ID',
+   sort_order INT NOT NULL COMMENT '선택 순서',
+   sport VARCHAR(30) NOT NULL COMMENT '관심 스포츠',
+
+   PRIMARY KEY (user_id, sort_order),
+   INDEX idx_user_sports_sport_user (sport, user_id) COMMENT '스포츠별 사용자 조회 최적화',
+   CONSTRAINT fk_user_sports_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 관심 스포츠';
+
 -- 데이터 무결성을 위한 추가 체크사항들을 주석으로 설명
 /*
 무결성 규칙 설명:
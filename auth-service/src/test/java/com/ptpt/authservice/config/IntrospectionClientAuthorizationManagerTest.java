@@ -0,0 +1,36 @@
+package com.ptpt.authservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntrospectionClientAuthorizationManagerTest {
+
+    private final IntrospectionClientAuthorizationManager manager =
+            new IntrospectionClientAuthorizationManager(new String[]{"gateway-key", " next-key "});
+
+    @Test
+    void 설정된_클라이언트_키만_허용한다() {
+        assertThat(manager.isTrustedClient(request("gateway-key"))).isTrue();
+        assertThat(manager.isTrustedClient(request("next-key"))).isTrue();
+        assertThat(manager.isTrustedClient(request("gateway-key2"))).isFalse();
+        assertThat(manager.isTrustedClient(request(null))).isFalse();
+    }
+
+    @Test
+    void 키가_없으면_모두_거부한다() {
+        IntrospectionClientAuthorizationManager unconfigured = new IntrospectionClientAuthorizationManager(new String[]{""});
+
+        assertThat(unconfigured.isTrustedClient(request(""))).isFalse();
+        assertThat(unconfigured.isTrustedClient(request("gateway-key"))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String clientKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/introspect");
+        if (clientKey != null) {
+            request.addHeader(IntrospectionClientAuthorizationManager.CLIENT_KEY_HEADER, clientKey);
+        }
+        return request;
+    }
+}
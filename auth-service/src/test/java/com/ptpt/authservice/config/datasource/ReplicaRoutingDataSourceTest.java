@@ -0,0 +1,101 @@
+package com.ptpt.authservice.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = pool("routing-primary");
+        replica = pool("routing-replica");
+        // H2 에는 복제 상태가 없으므로 지연 값을 테이블로 흉내낸다
+        execute(replica, "CREATE TABLE replica_lag (lag_seconds BIGINT)");
+        execute(replica, "INSERT INTO replica_lag VALUES (0)");
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5), Duration.ofSeconds(5),
+                "SELECT lag_seconds FROM replica_lag", "lag_seconds");
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션만_replica_로_보낸다() {
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("routing-replica");
+        assertThat(DataSourceRouting.onPrimary(routingDataSource::determineCurrentLookupKey)).isEqualTo("primary");
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_primary_로_읽는다() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        execute(replica, "UPDATE replica_lag SET lag_seconds = 30");
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("primary");
+        assertThat(routingDataSource.getPrimaryFallbackReads()).isEqualTo(1);
+
+        execute(replica, "UPDATE replica_lag SET lag_seconds = NULL");
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.getReplicaStatuses().get(0).healthy()).isFalse();
+
+        execute(replica, "UPDATE replica_lag SET lag_seconds = 1");
+        routingDataSource.checkReplicas();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("routing-replica");
+    }
+
+    @Test
+    void 최근에_쓴_사용자는_primary_에서_읽는다() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), 100);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(tracker.readByEmail("user@ptpt.com", routingDataSource::determineCurrentLookupKey)).isEqualTo("routing-replica");
+
+        tracker.markWritten(1L, "user@ptpt.com");
+        assertThat(tracker.readByEmail("user@ptpt.com", routingDataSource::determineCurrentLookupKey)).isEqualTo("primary");
+        assertThat(tracker.readById(1L, routingDataSource::determineCurrentLookupKey)).isEqualTo("primary");
+        assertThat(tracker.readById(2L, routingDataSource::determineCurrentLookupKey)).isEqualTo("routing-replica");
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID());
+        config.setUsername("sa");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(2);
+        return new HikariDataSource(config);
+    }
+
+    private static void execute(HikariDataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
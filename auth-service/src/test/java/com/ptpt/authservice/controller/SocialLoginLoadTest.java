@@ -0,0 +1,174 @@
+package com.ptpt.authservice.controller;
+
+import com.ptpt.authservice.service.UserService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 소셜 로그인 부하 테스트 (./gradlew loadTest)
+ * - 응답이 느린 로컬 카카오 스텁을 두고 동시 로그인 요청을 보내 지연 시간과 스레드 수를 출력한다.
+ * - 요청 스레드가 카카오 응답을 기다리지 않으므로 Tomcat 워커 수는 동시 요청 수보다 훨씬 적게 유지되어야 한다.
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:social-login-load;MODE=MySQL",
+        "social.login.executor.queue-capacity=2000",
+        "social.http.max-connections=500",
+        "social.http.pending-acquire-max-count=2000"
+})
+class SocialLoginLoadTest {
+
+    private static final int CONCURRENT_LOGINS = 1_000;
+    private static final Duration STUB_DELAY = Duration.ofMillis(300);
+
+    private static final ScheduledExecutorService stubDelayScheduler = Executors.newScheduledThreadPool(4);
+    private static final HttpServer kakaoStub = startKakaoStub();
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private UserService userService;
+
+    @DynamicPropertySource
+    static void kakaoStubProperties(DynamicPropertyRegistry registry) {
+        registry.add("kakao.kauth-user-url", () -> "http://127.0.0.1:" + kakaoStub.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopKakaoStub() {
+        kakaoStub.stop(0);
+        stubDelayScheduler.shutdownNow();
+    }
+
+    @Test
+    void 동시_소셜_로그인() throws Exception {
+        // 신규 사용자 경로 (임시 토큰 발급)
+        given(userService.findByEmail(anyString())).willReturn(Optional.empty());
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(16))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI loginUri = URI.create("http://127.0.0.1:" + port + "/social/login");
+
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        AtomicInteger peakTomcatWorkers = new AtomicInteger();
+        ScheduledExecutorService threadSampler = Executors.newSingleThreadScheduledExecutor();
+        threadSampler.scheduleAtFixedRate(
+                () -> peakTomcatWorkers.accumulateAndGet(countThreads("http-nio-"), Math::max),
+                0, 20, TimeUnit.MILLISECONDS);
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Long>> latencies = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(loginUri)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"provider\":\"kakao\",\"accessToken\":\"token-" + i + "\"}"))
+                    .build();
+
+            long requestStartedAt = System.nanoTime();
+            latencies.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(response -> {
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        return System.nanoTime() - requestStartedAt;
+                    }));
+        }
+
+        CompletableFuture.allOf(latencies.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        threadSampler.shutdownNow();
+
+        long[] sorted = latencies.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+        System.out.printf("""
+                        [social login load] requests=%d, stub delay=%dms, elapsed=%dms
+                          latency p50=%dms p95=%dms p99=%dms max=%dms
+                          peak tomcat workers=%d, peak jvm threads=%d, social-login threads=%d
+                        """,
+                CONCURRENT_LOGINS, STUB_DELAY.toMillis(), elapsedMillis,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100),
+                peakTomcatWorkers.get(), threadMXBean.getPeakThreadCount(), countThreads("social-login-"));
+
+        // 카카오 응답 대기 중 워커를 점유하지 않으므로 워커 수가 동시 요청 수까지 늘어나지 않는다
+        assertThat(peakTomcatWorkers.get()).isLessThan(CONCURRENT_LOGINS / 2);
+    }
+
+    private static long percentile(long[] sortedNanos, int percentile) {
+        int index = Math.max(0, (int) Math.ceil(sortedNanos.length * percentile / 100.0) - 1);
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos[index]);
+    }
+
+    private static int countThreads(String namePrefix) {
+        return (int) Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().contains(namePrefix))
+                .count();
+    }
+
+    /**
+     * STUB_DELAY 만큼 늦게 응답하는 카카오 사용자 정보 API 스텁 (지연 동안 스텁 스레드도 점유하지 않는다)
+     */
+    private static HttpServer startKakaoStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENT_LOGINS);
+            AtomicInteger userId = new AtomicInteger();
+            server.createContext("/v2/user/me", exchange -> {
+                int id = userId.incrementAndGet();
+                byte[] body = """
+                        {"id": %d, "kakao_account": {"email": "user%d@kakao.com",
+                         "profile": {"nickname": "user%d", "profile_image_url": null}}}
+                        """.formatted(id, id, id).getBytes(StandardCharsets.UTF_8);
+
+                stubDelayScheduler.schedule(() -> {
+                    try (OutputStream outputStream = exchange.getResponseBody()) {
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(200, body.length);
+                        outputStream.write(body);
+                    } catch (IOException e) {
+                        exchange.close();
+                    }
+                }, STUB_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+            });
+            server.setExecutor(Executors.newFixedThreadPool(8));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
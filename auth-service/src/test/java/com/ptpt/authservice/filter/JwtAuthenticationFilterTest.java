@@ -0,0 +1,65 @@
+package com.ptpt.authservice.filter;
+
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.ptpt.authservice.exception.token.InvalidTokenException;
+import com.ptpt.authservice.util.JwtKeyRing;
+import com.ptpt.authservice.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.of(JwtSigningAlgorithm.HS256, SECRET), 60_000, 120_000, 60_000, 1);
+    private final AtomicInteger userLookups = new AtomicInteger();
+
+    private final User user = User.builder()
+            .id(42L)
+            .email("user@ptpt.com")
+            .nickname("ptpt")
+            .build();
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, username -> {
+        userLookups.incrementAndGet();
+        return user;
+    });
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 액세스_토큰이면_인증한다() throws Exception {
+        filter.doFilter(request(jwtUtil.generateAccessToken(user)), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(user);
+    }
+
+    @Test
+    void 리프레시_토큰은_사용자_조회_전에_거부한다() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        assertThatThrownBy(() -> filter.doFilter(request(refreshToken), new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThat(userLookups).hasValue(0);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
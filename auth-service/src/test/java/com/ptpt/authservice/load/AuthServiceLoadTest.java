@@ -0,0 +1,282 @@
+package com.ptpt.authservice.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * auth-service 전체 부하 테스트 (./gradlew loadTest)
+ * - 원격 MySQL 대신 H2(MySQL 모드), 카카오 / 애플 대신 StubSocialProviders 로 띄운 뒤
+ *   회원가입 / 로그인 / 토큰 갱신 / 소셜 로그인 / 프로필 조회 / 이미지 업로드를 섞어서 보낸다.
+ * - 작업별 처리량, 지연 백분위, 오류율을 출력하고 build/reports/load/auth-service-load.json 으로 남긴다.
+ *
+ * 설정 (시스템 프로퍼티, ./gradlew loadTest -Dload.duration=2m ...)
+ * - load.duration        : 측정 시간 (기본 30s)
+ * - load.concurrency     : 동시 가상 사용자 수 (기본 64)
+ * - load.mix             : 작업 비율 (기본 signup=5,login=20,refresh=20,kakao=15,apple=10,profile=25,upload=5)
+ * - load.stub-latency    : 소셜 스텁 응답 지연 (기본 100ms)
+ * - load.stub-error-rate : 소셜 스텁 500 응답 비율 (기본 0.0)
+ * - load.max-error-rate  : 이 오류율을 넘으면 실패 (기본 0.01, 오류 주입 시에는 그만큼 올린다)
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:auth-service-load;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "logging.level.com.ptpt=warn",
+        // 모든 요청이 127.0.0.1 에서 오므로 IP 기준 로그인 제한은 끈다
+        "login-throttle.enabled=false",
+        "social.login.executor.queue-capacity=5000",
+        "social.http.max-connections=500",
+        "social.http.pending-acquire-max-count=5000"
+})
+class AuthServiceLoadTest {
+
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "30s").toUpperCase());
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final String MIX = System.getProperty("load.mix",
+            "signup=5,login=20,refresh=20,kakao=15,apple=10,profile=25,upload=5");
+    private static final Duration STUB_LATENCY = Duration.ofMillis(Long.getLong("load.stub-latency", 100L));
+    private static final double STUB_ERROR_RATE = Double.parseDouble(System.getProperty("load.stub-error-rate", "0.0"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    private static final String PASSWORD = "password123!";
+    // 1x1 PNG
+    private static final byte[] PROFILE_IMAGE = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    private static final StubSocialProviders stubs = new StubSocialProviders(STUB_LATENCY, STUB_ERROR_RATE);
+    private static final Path uploadDir = createUploadDir();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LoadReport report = new LoadReport();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${apple.client-id}")
+    private String appleClientId;
+
+    private HttpClient client;
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        registry.add("kakao.kauth-user-url", stubs::baseUrl);
+        registry.add("apple.public-key-url", stubs::appleKeysUrl);
+        registry.add("file.upload-dir", uploadDir::toString);
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        stubs.close();
+    }
+
+    @Test
+    void 혼합_트래픽() throws Exception {
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Map.Entry<String, Integer>> mix = parseMix(MIX);
+        int totalWeight = mix.stream().mapToInt(Map.Entry::getValue).sum();
+
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        long startedAt = System.nanoTime();
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(virtualUsers.submit(() -> runVirtualUser(mix, totalWeight, deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("duration", DURATION.toString());
+        settings.put("concurrency", CONCURRENCY);
+        settings.put("mix", MIX);
+        settings.put("stubLatencyMillis", STUB_LATENCY.toMillis());
+        settings.put("stubErrorRate", STUB_ERROR_RATE);
+        settings.put("stubInjectedErrors", stubs.getInjectedErrors());
+
+        report.print(elapsed);
+        report.writeJson(Paths.get("build", "reports", "load", "auth-service-load.json"), elapsed, settings);
+
+        assertThat((double) report.summarize(elapsed).get("errorRate")).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    /**
+     * 가상 사용자 하나: 자기 계정으로 가입 / 로그인한 뒤 deadline 까지 비율에 따라 작업을 고른다.
+     * - 갱신 시 리프레시 토큰이 바뀌므로 토큰은 가상 사용자끼리 공유하지 않는다.
+     */
+    private void runVirtualUser(List<Map.Entry<String, Integer>> mix, int totalWeight, long deadline) {
+        Session session = new Session();
+        if (!signup(session) || !login(session)) {
+            return;
+        }
+
+        while (System.nanoTime() < deadline) {
+            switch (pick(mix, totalWeight)) {
+                case "signup" -> signup(new Session());
+                case "login" -> login(session);
+                case "refresh" -> refresh(session);
+                case "kakao" -> socialLogin("kakao", "kakao-" + sequence.incrementAndGet() % 1_000);
+                case "apple" -> socialLogin("apple", stubs.identityToken(appleClientId, sequence.incrementAndGet() % 1_000));
+                case "profile" -> profile(session);
+                case "upload" -> upload(session);
+                default -> throw new IllegalArgumentException("알 수 없는 작업: " + MIX);
+            }
+        }
+    }
+
+    private boolean signup(Session session) {
+        long id = sequence.incrementAndGet();
+        session.email = "load" + id + "@ptpt.com";
+        String body = "{\"email\":\"%s\",\"password\":\"%s\",\"username\":\"load%d\"}".formatted(session.email, PASSWORD, id);
+        return send("signup", post("/api/users", body)) != null;
+    }
+
+    private boolean login(Session session) {
+        String body = "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(session.email, PASSWORD);
+        return session.update(send("login", post("/auth/login", body)));
+    }
+
+    private void refresh(Session session) {
+        String body = "{\"refreshToken\":\"%s\"}".formatted(session.refreshToken);
+        session.update(send("refresh", post("/auth/token/refresh", body)));
+    }
+
+    private void socialLogin(String provider, String accessToken) {
+        String body = "{\"provider\":\"%s\",\"accessToken\":\"%s\"}".formatted(provider, accessToken);
+        send("social-" + provider, post("/social/login", body));
+    }
+
+    private void profile(Session session) {
+        send("profile", request("/api/users").header("Authorization", "Bearer " + session.accessToken).GET().build());
+    }
+
+    private void upload(Session session) {
+        String boundary = "load-" + UUID.randomUUID();
+        ByteArrayOutputStream multipart = new ByteArrayOutputStream();
+        multipart.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"profileImage\"; filename=\"profile.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        multipart.writeBytes(PROFILE_IMAGE);
+        multipart.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        send("upload", request("/api/users")
+                .header("Authorization", "Bearer " + session.accessToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(multipart.toByteArray()))
+                .build());
+    }
+
+    /**
+     * 요청을 보내고 지연 / 성공 여부를 기록한다. 2xx 가 아니거나 실패하면 null
+     */
+    private JsonNode send(String operation, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            report.record(operation, System.nanoTime() - startedAt, success);
+            return success ? objectMapper.readTree(response.body()) : null;
+        } catch (IOException e) {
+            report.record(operation, System.nanoTime() - startedAt, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static String pick(List<Map.Entry<String, Integer>> mix, int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("mix 비율 합계가 올바르지 않습니다: " + MIX);
+    }
+
+    private static List<Map.Entry<String, Integer>> parseMix(String mix) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            entries.add(Map.entry(pair[0], Integer.parseInt(pair[1])));
+        }
+        return entries;
+    }
+
+    private static Path createUploadDir() {
+        try {
+            return Files.createTempDirectory("auth-service-load-images");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Session {
+        private String email;
+        private String accessToken;
+        private String refreshToken;
+
+        boolean update(JsonNode response) {
+            if (response == null) {
+                return false;
+            }
+            accessToken = response.path("data").path("accessToken").asText();
+            refreshToken = response.path("data").path("refreshToken").asText();
+            return true;
+        }
+    }
+}
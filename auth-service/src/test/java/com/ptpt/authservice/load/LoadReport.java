@@ -0,0 +1,126 @@
+package com.ptpt.authservice.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 집계 (작업별 처리량 / 지연 백분위 / 오류율)
+ * - 콘솔에 표로 출력하고, 릴리스 간 비교를 위해 JSON 파일로도 남긴다.
+ */
+public class LoadReport {
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    public void record(String operation, long latencyNanos, boolean success) {
+        operations.computeIfAbsent(operation, name -> new OperationStats()).record(latencyNanos, success);
+    }
+
+    public Map<String, Object> summarize(Duration elapsed) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        Map<String, Object> byOperation = new TreeMap<>();
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            OperationStats stats = entry.getValue();
+            byOperation.put(entry.getKey(), stats.summarize(elapsed));
+            totalRequests += stats.count();
+            totalErrors += stats.errors();
+        }
+
+        summary.put("elapsedMillis", elapsed.toMillis());
+        summary.put("requests", totalRequests);
+        summary.put("throughputPerSecond", throughput(totalRequests, elapsed));
+        summary.put("errorRate", totalRequests == 0 ? 0.0 : (double) totalErrors / totalRequests);
+        summary.put("operations", byOperation);
+        return summary;
+    }
+
+    public void print(Duration elapsed) {
+        Map<String, Object> summary = summarize(elapsed);
+        StringBuilder table = new StringBuilder()
+                .append(String.format("[auth-service load] elapsed=%dms requests=%d throughput=%.1f/s errorRate=%.4f%n",
+                        summary.get("elapsedMillis"), summary.get("requests"), summary.get("throughputPerSecond"), summary.get("errorRate")))
+                .append(String.format("  %-14s %8s %10s %8s %8s %8s %8s %9s%n",
+                        "operation", "count", "per-sec", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errorRate"));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> byOperation = (Map<String, Map<String, Object>>) summary.get("operations");
+        byOperation.forEach((name, stats) -> table.append(String.format("  %-14s %8d %10.1f %8.1f %8.1f %8.1f %8.1f %9.4f%n",
+                name, stats.get("count"), stats.get("throughputPerSecond"), stats.get("p50Millis"), stats.get("p95Millis"),
+                stats.get("p99Millis"), stats.get("maxMillis"), stats.get("errorRate"))));
+        System.out.print(table);
+    }
+
+    public void writeJson(Path file, Duration elapsed, Map<String, Object> settings) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("settings", settings);
+        document.put("result", summarize(elapsed));
+
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+    }
+
+    private static double throughput(long count, Duration elapsed) {
+        return elapsed.isZero() ? 0.0 : count * 1_000.0 / elapsed.toMillis();
+    }
+
+    private static class OperationStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized Map<String, Object> summarize(Duration elapsed) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", (long) count);
+            stats.put("throughputPerSecond", throughput(count, elapsed));
+            stats.put("errorRate", count == 0 ? 0.0 : (double) errors / count);
+            stats.put("p50Millis", percentileMillis(sorted, 50));
+            stats.put("p95Millis", percentileMillis(sorted, 95));
+            stats.put("p99Millis", percentileMillis(sorted, 99));
+            stats.put("maxMillis", percentileMillis(sorted, 100));
+            return stats;
+        }
+
+        private static double percentileMillis(long[] sortedNanos, int percentile) {
+            if (sortedNanos.length == 0) {
+                return 0.0;
+            }
+            int index = Math.max(0, (int) Math.ceil(sortedNanos.length * percentile / 100.0) - 1);
+            return sortedNanos[index] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
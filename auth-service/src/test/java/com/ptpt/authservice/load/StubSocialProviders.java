@@ -0,0 +1,165 @@
+package com.ptpt.authservice.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 로컬 소셜 제공자 스텁
+ * - 카카오 GET /v2/user/me : 액세스 토큰 "kakao-{n}" 이면 n 번 사용자, "invalid" 로 시작하면 401
+ * - 애플   GET /auth/keys  : 스텁이 가진 RSA 공개키 JWKS (identityToken() 으로 같은 키로 서명한 토큰 발급)
+ * - latency 만큼 늦게 응답하고(지연 동안 스텁 스레드를 점유하지 않음), errorRate 확률로 500 을 돌려준다.
+ */
+public class StubSocialProviders implements AutoCloseable {
+
+    static final String APPLE_ISS = "https://appleid.apple.com";
+    private static final String APPLE_KID = "load-test-kid";
+
+    private final HttpServer server;
+    private final ScheduledExecutorService delayScheduler = Executors.newScheduledThreadPool(4);
+    private final KeyPair appleKeyPair;
+    private final byte[] appleJwks;
+    private final LongAdder injectedErrors = new LongAdder();
+
+    private volatile Duration latency;
+    private volatile double errorRate;
+
+    public StubSocialProviders(Duration latency, double errorRate) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.appleKeyPair = generateRsaKeyPair();
+        this.appleJwks = appleJwks((RSAPublicKey) appleKeyPair.getPublic()).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/v2/user/me", this::handleKakaoUserInfo);
+        server.createContext("/auth/keys", exchange -> respond(exchange, 200, appleJwks));
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String appleKeysUrl() {
+        return baseUrl() + "/auth/keys";
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    /**
+     * 스텁 공개키로 검증되는 Apple identity token
+     */
+    public String identityToken(String clientId, long userNumber) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(APPLE_KID).and()
+                .issuer(APPLE_ISS)
+                .audience().add(clientId).and()
+                .subject("apple-" + userNumber)
+                .claim("email", "apple" + userNumber + "@privaterelay.appleid.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofMinutes(10))))
+                .signWith(appleKeyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private void handleKakaoUserInfo(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String accessToken = authorization == null ? "" : authorization.substring("Bearer ".length());
+        if (accessToken.startsWith("invalid")) {
+            respond(exchange, 401, "{\"msg\":\"this access token does not exist\",\"code\":-401}".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+
+        long id = Long.parseLong(accessToken.substring(accessToken.lastIndexOf('-') + 1));
+        byte[] body = """
+                {"id": %d, "kakao_account": {"email": "kakao%d@kakao.com",
+                 "profile": {"nickname": "kakao%d", "profile_image_url": null}}}
+                """.formatted(id, id, id).getBytes(StandardCharsets.UTF_8);
+        respond(exchange, 200, body);
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) {
+        boolean injectError = errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        if (injectError) {
+            injectedErrors.increment();
+        }
+        int responseStatus = injectError ? 500 : status;
+        byte[] responseBody = injectError ? "{\"msg\":\"injected\"}".getBytes(StandardCharsets.UTF_8) : body;
+
+        delayScheduler.schedule(() -> {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(responseStatus, responseBody.length);
+                outputStream.write(responseBody);
+            } catch (IOException e) {
+                exchange.close();
+            }
+        }, latency.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        delayScheduler.shutdownNow();
+    }
+
+    private static KeyPair generateRsaKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String appleJwks(RSAPublicKey publicKey) {
+        return String.format("{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"%s\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\"%s\",\"e\":\"%s\"}]}",
+                APPLE_KID, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        // 부호 비트용 0x00 은 JWK 에 넣지 않는다
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
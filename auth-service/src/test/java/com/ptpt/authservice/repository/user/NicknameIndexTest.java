@@ -0,0 +1,79 @@
+package com.ptpt.authservice.repository.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NicknameIndexTest {
+
+    private final UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
+    private NicknameIndex nicknameIndex;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        when(userJpaRepository.findNicknamesAfter(eq(0L), any(Limit.class))).thenReturn(rows(
+                new Object[]{1L, "Runner"},
+                new Object[]{2L, "swimmer"},
+                new Object[]{3L, "러너"}));
+        when(userJpaRepository.findNicknamesAfter(eq(3L), any(Limit.class))).thenReturn(List.of());
+
+        // 따라잡기 / 재구성은 테스트 중에 돌지 않도록 주기를 길게 잡는다
+        nicknameIndex = new NicknameIndex(userJpaRepository, true, 1000, 0.01, Duration.ofHours(1), Duration.ofHours(1));
+        nicknameIndex.start();
+        awaitReady();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nicknameIndex.stop();
+    }
+
+    @Test
+    void 적재한_닉네임은_대소문자_구분_없이_찾는다() {
+        assertThat(nicknameIndex.contains("runner")).isTrue();
+        assertThat(nicknameIndex.contains(" SWIMMER ")).isTrue();
+        assertThat(nicknameIndex.contains("러너")).isTrue();
+        assertThat(nicknameIndex.contains("walker")).isFalse();
+        assertThat(nicknameIndex.stats().getSize()).isEqualTo(3);
+    }
+
+    @Test
+    void 트랜잭션_밖의_가입_변경_삭제는_바로_반영한다() {
+        nicknameIndex.onNicknameSaved(null, "walker");
+        assertThat(nicknameIndex.contains("walker")).isTrue();
+
+        nicknameIndex.onNicknameSaved("Runner", "sprinter");
+        assertThat(nicknameIndex.contains("runner")).isFalse();
+        assertThat(nicknameIndex.contains("sprinter")).isTrue();
+
+        nicknameIndex.onNicknameRemoved("swimmer");
+        assertThat(nicknameIndex.contains("swimmer")).isFalse();
+
+        // 삭제된 닉네임을 다시 쓰면 다시 사용 중이 된다
+        nicknameIndex.onNicknameSaved(null, "Swimmer");
+        assertThat(nicknameIndex.contains("swimmer")).isTrue();
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!nicknameIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(nicknameIndex.isReady()).isTrue();
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,161 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.enums.SocialProvider;
+import com.ptpt.authservice.exception.social.SocialTokenInvalidException;
+import com.ptpt.authservice.util.AuthMetrics;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApplePublicKeyStoreTest {
+
+    private HttpServer stubServer;
+    private final AtomicInteger fetchCount = new AtomicInteger();
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+
+    private ApplePublicKeyStore keyStore;
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyPair = generateRsaKeyPair();
+        jwksBody.set(jwks(jwk("kid-1", keyPair)));
+
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/auth/keys", exchange -> {
+            fetchCount.incrementAndGet();
+            sleep(200); // 동시 요청이 하나의 조회를 기다리도록 응답 지연
+            byte[] body = jwksBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+
+        String url = "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/auth/keys";
+        keyStore = new ApplePublicKeyStore(Map.of(SocialProvider.APPLE, WebClient.create(url)),
+                new AuthMetrics(new SimpleMeterRegistry()), Duration.ofHours(1), Duration.ZERO, Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyStore.stop();
+        stubServer.stop(0);
+    }
+
+    @Test
+    void 동시에_들어온_요청은_한번만_조회한다() throws Exception {
+        int concurrency = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+
+        for (int i = 0; i < concurrency; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                await(startLatch);
+                return keyStore.getParser("kid-1");
+            }, executor));
+        }
+        startLatch.countDown();
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+        executor.shutdown();
+
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 캐시된_parser_로_토큰을_검증한다() {
+        String token = Jwts.builder()
+                .header().keyId("kid-1").and()
+                .subject("apple-user")
+                .signWith(keyPair.getPrivate())
+                .compact();
+
+        Claims claims = keyStore.getParser("kid-1").parseSignedClaims(token).getPayload();
+        keyStore.getParser("kid-1");
+
+        assertThat(claims.getSubject()).isEqualTo("apple-user");
+        assertThat(fetchCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 모르는_kid_가_들어오면_다시_조회한다() throws Exception {
+        keyStore.getParser("kid-1");
+
+        KeyPair rotated = generateRsaKeyPair();
+        jwksBody.set(jwks(jwk("kid-1", keyPair), jwk("kid-2", rotated)));
+
+        assertThat(keyStore.getParser("kid-2")).isNotNull();
+        assertThat(fetchCount.get()).isEqualTo(2);
+
+        assertThatThrownBy(() -> keyStore.getParser("kid-unknown"))
+                .isInstanceOf(SocialTokenInvalidException.class);
+    }
+
+    private static KeyPair generateRsaKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String jwk(String kid, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return String.format("{\"kty\":\"RSA\",\"kid\":\"%s\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\"%s\",\"e\":\"%s\"}",
+                kid, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
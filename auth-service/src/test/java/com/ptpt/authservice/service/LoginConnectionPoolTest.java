@@ -0,0 +1,86 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.controller.request.LoginRequest;
+import com.ptpt.authservice.controller.response.TokenResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 로그인 시 커넥션 풀 점유 확인
+ * - 커넥션 1개, 대기 한도 1.5초인 풀에서 BCrypt(strength 11, 1회 약 100ms 이상) 검증이 커넥션을 잡고 있으면
+ *   32건이 직렬화되어 대기 한도를 넘기고 로그인이 실패한다.
+ * - 조회만 짧게 커넥션을 쓰면 동시에 몰린 조회가 잠깐 줄을 서더라도 대기 한도 안에 모든 로그인이 성공한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:login-pool;MODE=MySQL",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1500",
+        "cache.users.maximum-size=0", // 캐시 없이 매 로그인마다 DB 조회
+        "password.hashing.strength=11",
+        "password.hashing.pool-size=4",
+        "password.hashing.wait-timeout=30s", // 해싱 대기 거절이 아니라 커넥션 대기만 검증한다
+        // 콘솔 appender 잠금을 기다리는 동안 조회 트랜잭션이 커넥션을 잡고 있지 않도록 요청 로그는 끈다 (운영은 비동기 appender)
+        "logging.level.com.ptpt=warn"
+})
+class LoginConnectionPoolTest {
+
+    private static final int CONCURRENT_LOGINS = 32;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void BCrypt_검증_중에는_커넥션을_잡지_않는다() throws Exception {
+        userService.createNormalUser("pool@ptpt.com", "password123!", "pool");
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicInteger peakActive = new AtomicInteger();
+        AtomicInteger peakAwaiting = new AtomicInteger();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            peakAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+        }, 0, 1, TimeUnit.MILLISECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        List<CompletableFuture<TokenResponse>> logins = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            logins.add(CompletableFuture.supplyAsync(() -> authService.authenticateUser(LoginRequest.builder()
+                    .email("pool@ptpt.com")
+                    .password("password123!")
+                    .build()), clients));
+        }
+
+        CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        sampler.shutdownNow();
+        clients.shutdownNow();
+
+        System.out.printf("[login pool] logins=%d, pool size=1, peak active=%d, peak awaiting=%d%n",
+                CONCURRENT_LOGINS, peakActive.get(), peakAwaiting.get());
+
+        assertThat(logins).allSatisfy(login -> assertThat(login.join().getAccessToken()).isNotBlank());
+    }
+}
@@ -0,0 +1,75 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.exception.auth.LoginThrottledException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleServiceTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final LoginThrottleService loginThrottleService = new LoginThrottleService(true,
+            3, Duration.ofMinutes(1), 2,
+            100, Duration.ofMinutes(1), 50,
+            Duration.ofSeconds(10), Duration.ofMinutes(15),
+            1_000, Duration.ofMinutes(30));
+
+    @Test
+    void 이메일별_허용_횟수를_넘기면_Retry_After_와_함께_거부한다() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottleService.checkAllowed("user@ptpt.com", IP);
+        }
+
+        assertThatThrownBy(() -> loginThrottleService.checkAllowed("USER@ptpt.com ", IP))
+                .isInstanceOfSatisfying(LoginThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(1L, 20L));
+
+        // 다른 이메일은 영향을 받지 않는다
+        assertThatCode(() -> loginThrottleService.checkAllowed("other@ptpt.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void IP_한도로_거부된_요청은_이메일_한도를_깎지_않는다() {
+        for (int i = 0; i < 100; i++) {
+            loginThrottleService.checkAllowed("spray" + i + "@ptpt.com", IP);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> loginThrottleService.checkAllowed("user@ptpt.com", IP))
+                    .isInstanceOf(LoginThrottledException.class);
+        }
+
+        // 이메일 버킷은 그대로 3번 남아 있다
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> loginThrottleService.checkAllowed("user@ptpt.com", "10.0.0.2")).doesNotThrowAnyException();
+        }
+    }
+
+    @Test
+    void 연속_실패가_기준을_넘으면_토큰이_남아도_차단하고_성공하면_풀린다() {
+        loginThrottleService.recordFailure("user@ptpt.com", IP);
+        loginThrottleService.recordFailure("user@ptpt.com", IP);
+
+        assertThatThrownBy(() -> loginThrottleService.checkAllowed("user@ptpt.com", IP))
+                .isInstanceOfSatisfying(LoginThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(9L, 10L));
+
+        loginThrottleService.recordSuccess("user@ptpt.com");
+        assertThatCode(() -> loginThrottleService.checkAllowed("user@ptpt.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 로그인에_성공해도_IP_차단은_풀리지_않는다() {
+        for (int i = 0; i < 50; i++) {
+            loginThrottleService.recordFailure("victim" + i + "@ptpt.com", IP);
+        }
+
+        loginThrottleService.recordSuccess("attacker@ptpt.com");
+        assertThatThrownBy(() -> loginThrottleService.checkAllowed("attacker@ptpt.com", IP))
+                .isInstanceOf(LoginThrottledException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.exception.server.ServerBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.stop();
+    }
+
+    @Test
+    void 대기_큐가_가득_차면_바로_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingService = new PasswordHashingService(blockingEncoder(release), 1, 1, Duration.ofSeconds(5));
+
+        // 실행 중 1개 + 대기 1개로 실행기를 채운다
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("running"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHashingService.encode("queued"));
+        waitUntil(() -> passwordHashingService.getQueueDepth() == 1);
+
+        assertThatThrownBy(() -> passwordHashingService.encode("rejected"))
+                .isInstanceOf(ServerBusyException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:queued");
+    }
+
+    @Test
+    void 대기_시간을_넘기면_거절한다() {
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingService = new PasswordHashingService(blockingEncoder(release), 1, 1, Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> passwordHashingService.encode("slow"))
+                .isInstanceOf(ServerBusyException.class);
+        release.countDown();
+    }
+
+    @Test
+    void 낮은_cost_의_해시는_업그레이드_대상이다() {
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(5), 1, 1, Duration.ofSeconds(5));
+
+        String oldHash = new BCryptPasswordEncoder(4).encode("password");
+        String currentHash = passwordHashingService.encode("password");
+
+        assertThat(passwordHashingService.upgradeEncoding(oldHash)).isTrue();
+        assertThat(passwordHashingService.upgradeEncoding(currentHash)).isFalse();
+        assertThat(passwordHashingService.matches("password", oldHash)).isTrue();
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 만족하지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
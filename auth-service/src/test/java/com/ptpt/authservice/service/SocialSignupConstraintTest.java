@@ -0,0 +1,41 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.exception.social.SocialEmailAlreadyExistsException;
+import com.ptpt.authservice.exception.user.UserCreateFailedException;
+import com.ptpt.authservice.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:social-signup-constraint;MODE=MySQL")
+class SocialSignupConstraintTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void 같은_소셜_계정의_중복_가입_요청은_먼저_가입된_사용자를_반환한다() {
+        User first = TestUsers.socialUser(userService, "dup@ptpt.com", "dup", "dup-social");
+        User second = TestUsers.socialUser(userService, "dup@ptpt.com", "dup-retry", "dup-social");
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.getNickname()).isEqualTo("dup");
+    }
+
+    @Test
+    void 다른_소셜_계정의_이메일_닉네임_중복은_제약_이름으로_구분한다() {
+        TestUsers.socialUser(userService, "owner@ptpt.com", "owner", "owner-social");
+
+        assertThatThrownBy(() -> TestUsers.socialUser(userService, "owner@ptpt.com", "other", "other-social"))
+                .isInstanceOf(SocialEmailAlreadyExistsException.class);
+        assertThatThrownBy(() -> TestUsers.socialUser(userService, "other@ptpt.com", "owner", "other-social"))
+                .isInstanceOf(UserCreateFailedException.class)
+                .hasMessageContaining("닉네임");
+    }
+}
@@ -0,0 +1,76 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.controller.response.TokenIntrospectionResponse;
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.ApiResponseCode;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.ptpt.authservice.exception.request.InvalidRequestException;
+import com.ptpt.authservice.util.JwtKeyRing;
+import com.ptpt.authservice.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenIntrospectionServiceTest {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.of(JwtSigningAlgorithm.ES256, SECRET), 60_000, 120_000, 60_000, 1);
+    private final JwtBlacklistService jwtBlacklistService = mock(JwtBlacklistService.class);
+    private final TokenIntrospectionService service = new TokenIntrospectionService(jwtUtil, jwtBlacklistService, 3);
+
+    private final User user = User.builder()
+            .id(42L)
+            .email("user@ptpt.com")
+            .nickname("ptpt")
+            .build();
+
+    @Test
+    void introspect_returnsResultsInRequestOrder() {
+        when(jwtBlacklistService.isTokenBlacklisted(any())).thenReturn(false);
+        String accessToken = jwtUtil.generateAccessToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        List<TokenIntrospectionResponse> results = service.introspect(List.of(accessToken, "not-a-jwt", refreshToken));
+
+        assertThat(results.get(0).isActive()).isTrue();
+        assertThat(results.get(0).getTokenType()).isEqualTo("ACCESS");
+        assertThat(results.get(0).getUserId()).isEqualTo(42L);
+        assertThat(results.get(0).getSubject()).isEqualTo("user@ptpt.com");
+
+        assertThat(results.get(1).isActive()).isFalse();
+        assertThat(results.get(1).getErrorCode()).isEqualTo(ApiResponseCode.AUTH_TOKEN_MALFORMED.getCode());
+
+        assertThat(results.get(2).isActive()).isTrue();
+        assertThat(results.get(2).getTokenType()).isEqualTo("REFRESH");
+    }
+
+    @Test
+    void introspect_duplicateTokens_areCheckedOnce() {
+        when(jwtBlacklistService.isTokenBlacklisted(any())).thenReturn(true);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        List<TokenIntrospectionResponse> results = service.introspect(List.of(refreshToken, refreshToken));
+
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.isActive()).isFalse();
+            assertThat(result.isRevoked()).isTrue();
+        });
+        verify(jwtBlacklistService, times(1)).isTokenBlacklisted(any());
+    }
+
+    @Test
+    void introspect_tooManyTokens_isRejected() {
+        assertThatThrownBy(() -> service.introspect(Collections.nCopies(4, "token")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
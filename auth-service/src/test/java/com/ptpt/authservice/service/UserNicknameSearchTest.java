@@ -0,0 +1,75 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.controller.response.UserProfileResponse;
+import com.ptpt.authservice.controller.response.UserSearchResponse;
+import com.ptpt.authservice.enums.NicknameSearchMode;
+import com.ptpt.authservice.exception.request.InvalidRequestException;
+import com.ptpt.authservice.support.TestUsers;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:user-nickname-search;MODE=MySQL",
+        "user-search.nickname.full-text-enabled=false" // H2 에는 n-gram 전문 인덱스가 없으므로 LIKE 로 검색
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserNicknameSearchTest {
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeAll
+    void setUp() {
+        int number = 0;
+        for (String nickname : new String[]{"runner", "run_fast", "runaway", "morning_run", "swimmer", "100%run"}) {
+            number++;
+            TestUsers.socialUser(userService, "nick" + number + "@ptpt.com", nickname, "nick-social-" + number);
+        }
+    }
+
+    @Test
+    void 접두어_검색은_닉네임_사전순으로_커서_페이징한다() {
+        UserSearchResponse first = userService.searchUsersByNickname("run", NicknameSearchMode.PREFIX, null, 2);
+        assertThat(first.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("run_fast", "runaway");
+        assertThat(first.getNextCursor()).isEqualTo("runaway");
+
+        UserSearchResponse second = userService.searchUsersByNickname("run", NicknameSearchMode.PREFIX, first.getNextCursor(), 2);
+        assertThat(second.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("runner");
+        assertThat(second.isHasNext()).isFalse();
+
+        // '_' 는 와일드카드가 아닌 문자로 검색된다
+        UserSearchResponse underscore = userService.searchUsersByNickname("run_", NicknameSearchMode.PREFIX, null, 10);
+        assertThat(underscore.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("run_fast");
+    }
+
+    @Test
+    void 부분_일치_검색은_id_내림차순으로_커서_페이징한다() {
+        UserSearchResponse first = userService.searchUsersByNickname("run", NicknameSearchMode.CONTAINS, null, 3);
+        assertThat(first.getUsers()).extracting(UserProfileResponse::getUsername)
+                .containsExactly("100%run", "morning_run", "runaway");
+        assertThat(first.isHasNext()).isTrue();
+
+        UserSearchResponse second = userService.searchUsersByNickname("run", NicknameSearchMode.CONTAINS, first.getNextCursor(), 3);
+        assertThat(second.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("run_fast", "runner");
+        assertThat(second.getNextCursor()).isNull();
+
+        UserSearchResponse percent = userService.searchUsersByNickname("0%", NicknameSearchMode.CONTAINS, null, 10);
+        assertThat(percent.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("100%run");
+    }
+
+    @Test
+    void n_gram_보다_짧은_부분_일치_검색어는_거절한다() {
+        assertThatThrownBy(() -> userService.searchUsersByNickname("r", NicknameSearchMode.CONTAINS, null, 10))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userService.searchUsersByNickname("run", NicknameSearchMode.CONTAINS, "abc", 10))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ptpt.authservice.service;
+
+import com.ptpt.authservice.controller.response.UserProfileResponse;
+import com.ptpt.authservice.controller.response.UserSliceResponse;
+import com.ptpt.authservice.support.TestUsers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.hikari.jdbc-url=jdbc:h2:mem:user-sport-search;MODE=MySQL")
+class UserSportSearchTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void 관심_스포츠와_지역으로_사용자를_커서_페이징한다() {
+        createUser(1, "서울", List.of("축구", "농구"));
+        createUser(2, "서울", List.of("테니스"));
+        createUser(3, "부산", List.of("축구"));
+        createUser(4, "서울", List.of("농구", "축구", "축구"));
+
+        UserSliceResponse first = userService.findUsersBySport("축구", null, null, 2);
+        assertThat(first.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("sport4", "sport3");
+        assertThat(first.isHasNext()).isTrue();
+
+        UserSliceResponse second = userService.findUsersBySport("축구", null, first.getNextCursor(), 2);
+        assertThat(second.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("sport1");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+
+        UserSliceResponse seoul = userService.findUsersBySport("축구", "서울", null, 10);
+        assertThat(seoul.getUsers()).extracting(UserProfileResponse::getUsername).containsExactly("sport4", "sport1");
+        // 중복 입력은 한 번만 저장되고 선택 순서는 유지된다
+        assertThat(seoul.getUsers().get(0).getInterestedSports()).containsExactly("농구", "축구");
+    }
+
+    private void createUser(int number, String location, List<String> sports) {
+        TestUsers.socialUser(userService, "sport" + number + "@ptpt.com", "sport" + number, "social-" + number,
+                location, sports);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ptpt.authservice.support;
+
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.service.UserService;
+
+import java.util.List;
+
+/**
+ * 테스트용 사용자 가입 (카카오 소셜 계정, 프로필 이미지 / 자기소개 없음)
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User socialUser(UserService userService, String email, String nickname, String socialId) {
+        return socialUser(userService, email, nickname, socialId, null, null);
+    }
+
+    public static User socialUser(UserService userService, String email, String nickname, String socialId,
+                                  String location, List<String> interestedSports) {
+        return userService.createSocialUser(email, nickname, socialId,
+                User.SocialType.KAKAO, null, null, null, location, interestedSports, null, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ptpt.authservice.util;
+
+import com.ptpt.authclient.AuthPrincipal;
+import com.ptpt.authclient.AuthTokenException;
+import com.ptpt.authclient.AuthTokenVerifier;
+import com.ptpt.authclient.JwksKeyLocator;
+import com.ptpt.authservice.dto.User;
+import com.ptpt.authservice.enums.JwtSigningAlgorithm;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * auth-service 가 발급한 토큰을 다운스트림 서비스의 검증 모듈(auth-client)이 그대로 검증할 수 있는지 확인
+ */
+class AccessTokenContractTest {
+
+    private static final String SECRET = "7KAwWI4D6wbwSZ4IdUsrikAbrrwBJaIsZInN7YfE1WXaS4bep7p6eZGPi4MBNFYd";
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtKeyRing.of(JwtSigningAlgorithm.HS256, SECRET), 60_000, 120_000, 60_000, 1);
+    private final AuthTokenVerifier verifier = new AuthTokenVerifier(SECRET, 1, Duration.ZERO);
+
+    private final User user = User.builder()
+            .id(42L)
+            .email("user@ptpt.com")
+            .nickname("ptpt")
+            .build();
+
+    @Test
+    void accessToken_isVerifiedByAuthClient() {
+        AuthPrincipal principal = verifier.verify(jwtUtil.generateAccessToken(user));
+
+        assertThat(principal.userId()).isEqualTo(42L);
+        assertThat(principal.email()).isEqualTo("user@ptpt.com");
+        assertThat(principal.nickname()).isEqualTo("ptpt");
+        assertThat(principal.tokenVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void es256AccessToken_isVerifiedWithPublishedJwks() throws Exception {
+        JwtKeyRing keyRing = JwtKeyRing.of(JwtSigningAlgorithm.ES256, SECRET);
+        JwtUtil es256JwtUtil = new JwtUtil(keyRing, 60_000, 120_000, 60_000, 1);
+        String jwks = new ObjectMapper().writeValueAsString(Map.of("keys", keyRing.getPublicJwks()));
+
+        AuthTokenVerifier jwksVerifier = new AuthTokenVerifier(
+                new JwksKeyLocator(() -> jwks, Duration.ofSeconds(30), null), 1, Duration.ZERO);
+
+        assertThat(jwksVerifier.verify(es256JwtUtil.generateAccessToken(user)).userId()).isEqualTo(42L);
+        // kid 없는 기존 HS256 토큰은 secret 이 없으면 거부
+        assertThatThrownBy(() -> jwksVerifier.verify(jwtUtil.generateAccessToken(user)))
+                .isInstanceOf(AuthTokenException.class)
+                .extracting("reason").isEqualTo(AuthTokenException.Reason.UNKNOWN_KEY);
+    }
+
+    @Test
+    void legacyHs256Token_isStillVerifiedAfterSwitchingToEs256() {
+        JwtUtil es256JwtUtil = new JwtUtil(JwtKeyRing.of(JwtSigningAlgorithm.ES256, SECRET), 60_000, 120_000, 60_000, 1);
+
+        VerifiedToken verifiedToken = es256JwtUtil.verify(jwtUtil.generateAccessToken(user));
+
+        assertThat(verifiedToken.getUserId()).isEqualTo(42L);
+    }
+
+    @Test
+    void refreshToken_isRejectedByAuthClient() {
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        assertThatThrownBy(() -> verifier.verify(refreshToken))
+                .isInstanceOf(AuthTokenException.class)
+                .extracting("reason").isEqualTo(AuthTokenException.Reason.INVALID_TYPE);
+    }
+}
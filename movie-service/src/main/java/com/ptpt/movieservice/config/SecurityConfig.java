@@ -1,31 +1,36 @@
 package com.ptpt.movieservice.config;
 
-import com.ptpt.movieservice.security.filter.InitAuthFilter;
-import com.ptpt.movieservice.security.filter.JwtAuthFilter;
+import com.ptpt.authclient.AuthTokenEntryPoint;
+import com.ptpt.authclient.AuthTokenFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+// 로그인은 auth-service 에서 하고, 이 서비스는 발급된 Access Token 만 로컬에서 검증한다 (auth-client)
 
 @Configuration
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthFilter jwtAuthFilter;
-    private final InitAuthFilter initAuthFilter;
+    private final AuthTokenFilter authTokenFilter;
+    private final AuthTokenEntryPoint authTokenEntryPoint;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         httpSecurity.csrf(AbstractHttpConfigurer::disable);
+        httpSecurity.httpBasic(AbstractHttpConfigurer::disable);
+        httpSecurity.formLogin(AbstractHttpConfigurer::disable);
+        httpSecurity.sessionManagement(c -> c.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
-        httpSecurity.addFilterBefore(initAuthFilter, BasicAuthenticationFilter.class);
-        httpSecurity.addFilterAfter(jwtAuthFilter, BasicAuthenticationFilter.class);
-
+        httpSecurity.addFilterBefore(authTokenFilter, UsernamePasswordAuthenticationFilter.class);
+        httpSecurity.exceptionHandling(c -> c.authenticationEntryPoint(authTokenEntryPoint));
 
         httpSecurity.authorizeHttpRequests(c -> c.anyRequest().authenticated());
         return httpSecurity.build();
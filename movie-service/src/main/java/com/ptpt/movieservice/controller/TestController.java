@@ -1,15 +1,16 @@
 package com.ptpt.movieservice.controller;
 
 
+import com.ptpt.authclient.AuthPrincipal;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-// 로그인 후 ID, Password 검증이 끝난 후 OTP 검증이 끝났을 때
-// 이후에 얻는 Token 을 가지고 호출되는 endpoint
+// auth-service 에서 로그인하여 받은 Access Token 을 가지고 호출되는 endpoint
 @RestController
 public class TestController {
     @GetMapping("/api/v1/test")
-    public String test() {
-        return "TEST SUCCESS";
+    public String test(@AuthenticationPrincipal AuthPrincipal principal) {
+        return "TEST SUCCESS - userId: " + principal.userId();
     }
 }
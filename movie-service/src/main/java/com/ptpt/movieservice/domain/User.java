@@ -1,12 +0,0 @@
-package com.ptpt.movieservice.domain;
-
-import lombok.Builder;
-import lombok.Getter;
-
-@Getter
-@Builder
-public class User {
-    private final String userId;
-    private final String password;
-    private final String otp;
-}
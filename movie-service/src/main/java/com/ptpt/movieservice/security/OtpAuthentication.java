@@ -1,16 +0,0 @@
-package com.ptpt.movieservice.security;
-
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-
-import java.util.Collection;
-
-public class OtpAuthentication extends UsernamePasswordAuthenticationToken {
-    public OtpAuthentication(Object principal, Object credentials) {
-        super(principal, credentials);
-    }
-
-    public OtpAuthentication(Object principal, Object credentials, Collection<? extends GrantedAuthority> authorities) {
-        super(principal, credentials, authorities);
-    }
-}
@@ -1,20 +0,0 @@
-package com.ptpt.movieservice.security;
-
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-
-import java.util.Collection;
-
-// security package 에 추가해야 하는 것: Authentication, AuthenticationProvider, Filter
-// 위 3가지를 추가한 후에 Spring Security Config 에 추가해줘야 한다.
-
-
-public class UsernamePasswordAuthentication extends UsernamePasswordAuthenticationToken {
-    public UsernamePasswordAuthentication(Object principal, Object credentials) {
-        super(principal, credentials);
-    }
-
-    public UsernamePasswordAuthentication(Object principal, Object credentials, Collection<? extends GrantedAuthority> authorities) {
-        super(principal, credentials, authorities);
-    }
-}
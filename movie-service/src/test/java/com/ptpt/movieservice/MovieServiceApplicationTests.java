@@ -3,7 +3,8 @@ package com.ptpt.movieservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// auth-client.secret 은 기본값이 없으므로 테스트 전용 값을 넣는다
+@SpringBootTest(properties = "AUTH_JWT_SECRET=movie-service-test-secret-movie-service-test-secret-0123456789")
 class MovieServiceApplicationTests {
 
 	@Test